@@ -0,0 +1,69 @@
+package cli;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code <command> --name value --flag ...} command line.
+ */
+public class CliOptions {
+
+    private final String command;
+    private final Map<String, String> values;
+
+    private CliOptions(String command, Map<String, String> values) {
+        this.command = command;
+        this.values = values;
+    }
+
+    public static CliOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String name = args[i].substring(2);
+            boolean hasValue = i + 1 < args.length && !args[i + 1].startsWith("--");
+            values.put(name, hasValue ? args[++i] : "true");
+        }
+        return new CliOptions(args.length == 0 ? "help" : args[0], values);
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public boolean has(String name) {
+        return values.containsKey(name);
+    }
+
+    public String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    /**
+     * Value of an option restricted to {@code allowed}, anything else is rejected.
+     */
+    public String getChoice(String name, String defaultValue, String... allowed) {
+        String value = get(name, defaultValue);
+        List<String> choices = Arrays.asList(allowed);
+        if (!choices.contains(value)) {
+            throw new IllegalArgumentException("--" + name + " must be one of " + String.join("|", choices) + ": " + value);
+        }
+        return value;
+    }
+
+    public int getInt(String name, int defaultValue) {
+        return has(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    public long getLong(String name, long defaultValue) {
+        return has(name) ? Long.parseLong(values.get(name)) : defaultValue;
+    }
+
+    public double getDouble(String name, double defaultValue) {
+        return has(name) ? Double.parseDouble(values.get(name)) : defaultValue;
+    }
+}
@@ -0,0 +1,89 @@
+package cli;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.Closeable;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prints throughput and latency of the last second to stdout while a command runs, then a total line.
+ * Output is a text table or, with {@code --stats-format json}, one JSON object per line.
+ */
+public class LiveReporter implements Closeable {
+
+    private final Recorder recorder = new Recorder(3);
+    private final Histogram total = new Histogram(3);
+    private final LongAdder errors = new LongAdder();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-reporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final boolean json;
+    private final long begin = System.nanoTime();
+    private long lastErrors;
+    private long lastReport = begin;
+
+    public LiveReporter(boolean json) {
+        this.json = json;
+        if (!json) {
+            System.out.printf("%8s %10s %10s %8s %9s %9s %9s%n", "time s", "ops", "ops/s", "errors", "p50 ms", "p99 ms", "max ms");
+        }
+        timer.scheduleAtFixedRate(this::report, 1, 1, TimeUnit.SECONDS);
+    }
+
+    public void record(long nanos, boolean ok) {
+        recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+        if (!ok) {
+            errors.increment();
+        }
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public void close() {
+        timer.shutdown();
+        try {
+            timer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        report();
+        print("total", total, errors.sum(), System.nanoTime() - begin);
+    }
+
+    private synchronized void report() {
+        long now = System.nanoTime();
+        Histogram interval = recorder.getIntervalHistogram();
+        total.add(interval);
+        long errorsNow = errors.sum();
+        if (interval.getTotalCount() > 0 || errorsNow > lastErrors) {
+            print(String.format(Locale.ROOT, "%.1f", (now - begin) / 1e9), interval, errorsNow - lastErrors, now - lastReport);
+        }
+        lastErrors = errorsNow;
+        lastReport = now;
+    }
+
+    private void print(String time, Histogram latency, long errorCount, long elapsedNanos) {
+        double rate = elapsedNanos == 0 ? 0 : latency.getTotalCount() * 1e9 / elapsedNanos;
+        double p50 = latency.getValueAtPercentile(50) / 1000.0;
+        double p99 = latency.getValueAtPercentile(99) / 1000.0;
+        double max = latency.getMaxValue() / 1000.0;
+        if (json) {
+            System.out.printf(Locale.ROOT,
+                    "{\"time\":\"%s\",\"ops\":%d,\"opsPerSecond\":%.1f,\"errors\":%d,\"p50Ms\":%.1f,\"p99Ms\":%.1f,\"maxMs\":%.1f}%n",
+                    time, latency.getTotalCount(), rate, errorCount, p50, p99, max);
+        } else {
+            System.out.printf(Locale.ROOT, "%8s %10d %10.1f %8d %9.1f %9.1f %9.1f%n",
+                    time, latency.getTotalCount(), rate, errorCount, p50, p99, max);
+        }
+    }
+}
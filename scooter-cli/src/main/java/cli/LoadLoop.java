@@ -0,0 +1,62 @@
+package cli;
+
+import model.VirtualThreads;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongPredicate;
+
+/**
+ * Runs an operation from {@code concurrency} workers until {@code count} operations have been started
+ * or {@code duration} has passed. With a positive {@code rate} operations are paced to fixed slots and
+ * latency is measured from the slot, so a slow server shows up as latency instead of a lower rate.
+ */
+public class LoadLoop {
+
+    private final int concurrency;
+    private final long count;
+    private final double rate;
+    private final Duration duration;
+
+    public LoadLoop(int concurrency, long count, double rate, Duration duration) {
+        this.concurrency = concurrency;
+        this.count = count;
+        this.rate = rate;
+        this.duration = duration;
+    }
+
+    /**
+     * @param operation gets the sequence number of the operation and returns whether it succeeded
+     */
+    public void run(LongPredicate operation, LiveReporter reporter) throws InterruptedException {
+        AtomicLong next = new AtomicLong();
+        long begin = System.nanoTime();
+        long deadline = begin + duration.toNanos();
+        ExecutorService executor = VirtualThreads.newExecutor();
+        for (int i = 0; i < concurrency; i++) {
+            executor.execute(() -> {
+                for (long n = next.getAndIncrement(); n < count; n = next.getAndIncrement()) {
+                    long slot = rate > 0 ? begin + (long) (n * TimeUnit.SECONDS.toNanos(1) / rate) : System.nanoTime();
+                    if (slot - deadline >= 0) {
+                        return;
+                    }
+                    for (long wait = slot - System.nanoTime(); wait > 0; wait = slot - System.nanoTime()) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    boolean ok;
+                    try {
+                        ok = operation.test(n);
+                    } catch (RuntimeException e) {
+                        ok = false;
+                    }
+                    reporter.record(System.nanoTime() - slot, ok);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+}
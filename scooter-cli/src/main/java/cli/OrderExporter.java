@@ -0,0 +1,105 @@
+package cli;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.restassured.response.Response;
+import model.OrderClient;
+import model.VirtualThreads;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Pages through {@code /api/v1/orders} until an empty page, fetching {@code concurrency} pages at a time,
+ * and writes every order as a JSON line or a CSV row in page order.
+ */
+public class OrderExporter {
+
+    private static final String[] CSV_COLUMNS = {"id", "track", "status", "courierId", "firstName", "lastName",
+            "address", "metroStation", "phone", "rentTime", "deliveryDate", "color", "comment", "createdAt"};
+
+    private final OrderClient orderClient = OrderClient.getInstance();
+    private final int concurrency;
+    private final boolean csv;
+
+    public OrderExporter(int concurrency, boolean csv) {
+        this.concurrency = concurrency;
+        this.csv = csv;
+    }
+
+    public long export(Writer out, LiveReporter reporter) throws IOException, InterruptedException {
+        if (csv) {
+            out.write(String.join(",", CSV_COLUMNS));
+            out.write('\n');
+        }
+        ExecutorService executor = VirtualThreads.newExecutor();
+        long exported = 0;
+        try {
+            for (int first = 0; ; first += concurrency) {
+                List<Future<JsonArray>> pages = new ArrayList<>(concurrency);
+                for (int page = first; page < first + concurrency; page++) {
+                    int number = page;
+                    pages.add(executor.submit(() -> fetch(number, reporter)));
+                }
+                for (Future<JsonArray> page : pages) {
+                    JsonArray orders = page.get();
+                    if (orders.size() == 0) {
+                        return exported;
+                    }
+                    for (JsonElement order : orders) {
+                        write(out, order.getAsJsonObject());
+                        exported++;
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IOException("Cannot fetch orders", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private JsonArray fetch(int page, LiveReporter reporter) {
+        long begin = System.nanoTime();
+        Response response = orderClient.getOrdersByPage(page);
+        boolean ok = response.statusCode() == 200;
+        reporter.record(System.nanoTime() - begin, ok);
+        if (!ok) {
+            throw new IllegalStateException("Page " + page + " returned " + response.statusCode());
+        }
+        JsonElement orders = JsonParser.parseString(response.asString()).getAsJsonObject().get("orders");
+        return orders == null || orders.isJsonNull() ? new JsonArray() : orders.getAsJsonArray();
+    }
+
+    private void write(Writer out, JsonObject order) throws IOException {
+        if (!csv) {
+            out.write(order.toString());
+            out.write('\n');
+            return;
+        }
+        for (int i = 0; i < CSV_COLUMNS.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            JsonElement value = order.get(CSV_COLUMNS[i]);
+            if (value != null && !value.isJsonNull()) {
+                out.write(escape(value.isJsonPrimitive() ? value.getAsString() : value.toString()));
+            }
+        }
+        out.write('\n');
+    }
+
+    private static String escape(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
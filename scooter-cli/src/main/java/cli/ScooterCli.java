@@ -0,0 +1,170 @@
+package cli;
+
+import io.restassured.response.Response;
+import model.CleanupRegistry;
+import model.JsonBody;
+import model.LifecycleScenario;
+import model.OrderClient;
+import model.OrderGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Load and soak tool over {@link OrderClient} and the lifecycle flow, runnable without Maven:
+ * <pre>
+ * java -jar scooter-cli.jar create --count 1000 --rate 50 --concurrency 20
+ * java -jar scooter-cli.jar soak --minutes 30 --concurrency 100
+ * java -jar scooter-cli.jar export --output orders.csv --output-format csv
+ * </pre>
+ * Common options: {@code --base-url}, {@code --transport} (default {@code http2}), {@code --concurrency}
+ * and {@code --stats-format text|json} for the live statistics.
+ * <p>
+ * Exits with 0 when every operation succeeded, 1 when any operation failed and 2 on a usage error.
+ */
+public class ScooterCli {
+
+    private static final Duration FOREVER = Duration.ofDays(365);
+    private static final int EXIT_OK = 0, EXIT_FAILED = 1, EXIT_USAGE = 2;
+
+    public static void main(String[] args) throws Exception {
+        System.exit(run(args));
+    }
+
+    /**
+     * Runs one command and returns the exit status instead of exiting.
+     */
+    public static int run(String... args) throws Exception {
+        try {
+            return run(CliOptions.parse(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            usage();
+            return EXIT_USAGE;
+        }
+    }
+
+    private static int run(CliOptions options) throws Exception {
+        if (options.has("format")) {
+            throw new IllegalArgumentException("--format is ambiguous, use --stats-format or --output-format");
+        }
+        if (options.has("base-url")) {
+            System.setProperty("scooter.baseUrl", options.get("base-url", null));
+        }
+        System.setProperty("scooter.transport", options.getChoice("transport", "http2", "http2", "http1", "rest-assured"));
+
+        long errors;
+        switch (options.getCommand()) {
+            case "create":
+                errors = create(options);
+                break;
+            case "soak":
+                errors = soak(options);
+                break;
+            case "export":
+                errors = export(options);
+                break;
+            case "help":
+                usage();
+                return EXIT_OK;
+            default:
+                throw new IllegalArgumentException("Unknown command: " + options.getCommand());
+        }
+        return errors == 0 ? EXIT_OK : EXIT_FAILED;
+    }
+
+    /**
+     * Creates {@code --count} orders at {@code --rate} per second (0 = as fast as possible) and cancels them
+     * afterwards unless {@code --keep} is given.
+     */
+    private static long create(CliOptions options) throws InterruptedException {
+        boolean keep = options.has("keep");
+        long seed = options.getLong("seed", System.currentTimeMillis() * 1000);
+        OrderClient orderClient = OrderClient.getInstance();
+        CleanupRegistry cleanup = CleanupRegistry.getInstance();
+
+        LoadLoop loop = new LoadLoop(options.getInt("concurrency", 10), options.getLong("count", 100),
+                options.getDouble("rate", 0), FOREVER);
+        long errors;
+        try (LiveReporter reporter = reporter(options)) {
+            loop.run(n -> {
+                Response response = orderClient.create(OrderGenerator.getOrder(seed + n));
+                Integer track = response.statusCode() == 201 ? JsonBody.getInt(response, "track") : null;
+                if (track != null && !keep) {
+                    cleanup.addOrder(track);
+                }
+                return track != null;
+            }, reporter);
+            errors = reporter.getErrors();
+        }
+        if (!keep) {
+            System.out.println("Cancelling " + cleanup.size() + " orders");
+            cleanup.cleanUp();
+        }
+        return errors;
+    }
+
+    /**
+     * Repeats the full courier and order lifecycle for {@code --minutes}, optionally paced to {@code --rate} per second.
+     */
+    private static long soak(CliOptions options) throws InterruptedException {
+        long seed = options.getLong("seed", System.currentTimeMillis() * 1000);
+        LifecycleScenario scenario = new LifecycleScenario();
+
+        LoadLoop loop = new LoadLoop(options.getInt("concurrency", 10), Long.MAX_VALUE,
+                options.getDouble("rate", 0), Duration.ofMinutes(options.getLong("minutes", 10)));
+        try (LiveReporter reporter = reporter(options)) {
+            loop.run(n -> {
+                scenario.run(seed + n);
+                return true;
+            }, reporter);
+            return reporter.getErrors();
+        }
+    }
+
+    /**
+     * Writes all orders to {@code --output} as JSON lines or, with {@code --output-format csv}, as CSV.
+     */
+    private static long export(CliOptions options) throws IOException, InterruptedException {
+        boolean csv = options.getChoice("output-format", "jsonl", "jsonl", "csv").equals("csv");
+        String output = options.get("output", csv ? "orders.csv" : "orders.jsonl");
+        OrderExporter exporter = new OrderExporter(options.getInt("concurrency", 4), csv);
+
+        long exported;
+        long errors;
+        try (LiveReporter reporter = reporter(options);
+             BufferedWriter out = Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8)) {
+            exported = exporter.export(out, reporter);
+            errors = reporter.getErrors();
+        }
+        System.out.println("Exported " + exported + " orders to " + output);
+        return errors;
+    }
+
+    private static LiveReporter reporter(CliOptions options) {
+        return new LiveReporter(options.getChoice("stats-format", "text", "text", "json").equals("json"));
+    }
+
+    private static void usage() {
+        System.out.println(String.join(System.lineSeparator(),
+                "Usage: java -jar scooter-cli.jar <command> [options]",
+                "",
+                "Commands:",
+                "  create  --count N [--rate R] [--keep]   create N orders at R orders/s, cancel them afterwards",
+                "  soak    --minutes T [--rate R]          run the courier/order lifecycle for T minutes",
+                "  export  [--output FILE] [--output-format jsonl|csv]   export all orders",
+                "",
+                "Options:",
+                "  --base-url URL        API host, default http://qa-scooter.praktikum-services.ru",
+                "  --transport NAME      http2 (default), http1 or rest-assured",
+                "  --concurrency C       concurrent workers",
+                "  --stats-format F      live statistics format: text (default) or json",
+                "  --seed S              first seed for generated couriers and orders",
+                "",
+                "Exit status: 0 if every operation succeeded, 1 if any failed, 2 on a usage error."));
+    }
+}
@@ -0,0 +1,68 @@
+import cli.CliOptions;
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import org.junit.Test;
+
+import static model.StepProvider.step;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class CliOptionsTest {
+
+    @Test
+    @DisplayName("Разбор команды и опций")
+    @Description("Первый аргумент — команда, далее пары --имя значение и флаги без значения.")
+    public void commandValuesAndFlagsAreParsed() {
+        step("Разобрать командную строку");
+        CliOptions options = CliOptions.parse(new String[]{"create", "--count", "10", "--keep", "--rate", "2.5"});
+
+        step("Проверить команду, значения и флаг");
+        assertEquals("Command must be the first argument", "create", options.getCommand());
+        assertEquals("Count must be parsed", 10, options.getInt("count", 0));
+        assertEquals("Rate must be parsed", 2.5, options.getDouble("rate", 0), 0);
+        assertTrue("Flag without a value must be present", options.has("keep"));
+        assertEquals("Flag without a value must be true", "true", options.get("keep", null));
+        assertEquals("Missing option must fall back to the default", 7L, options.getLong("seed", 7));
+    }
+
+    @Test
+    @DisplayName("Пустая командная строка")
+    @Description("Без аргументов выполняется команда help.")
+    public void emptyArgumentsMeanHelp() {
+        step("Разобрать пустую командную строку");
+        CliOptions options = CliOptions.parse(new String[0]);
+
+        step("Проверить команду");
+        assertEquals("Empty command line must mean help", "help", options.getCommand());
+        assertFalse("No options must be present", options.has("count"));
+    }
+
+    @Test
+    @DisplayName("Лишний позиционный аргумент")
+    @Description("Аргумент без -- после команды отклоняется.")
+    public void positionalArgumentIsRejected() {
+        step("Разобрать командную строку с лишним аргументом");
+        assertThrows(IllegalArgumentException.class,
+                () -> CliOptions.parse(new String[]{"create", "--count", "10", "20"}));
+    }
+
+    @Test
+    @DisplayName("Значение из списка допустимых")
+    @Description("getChoice возвращает допустимое значение или значение по умолчанию и отклоняет остальные.")
+    public void choiceOutsideAllowedValuesIsRejected() {
+        step("Проверить допустимое значение и значение по умолчанию");
+        assertEquals("Allowed value must be returned", "json",
+                CliOptions.parse(new String[]{"create", "--stats-format", "json"})
+                        .getChoice("stats-format", "text", "text", "json"));
+        assertEquals("Default must be returned", "text",
+                CliOptions.parse(new String[]{"create"}).getChoice("stats-format", "text", "text", "json"));
+
+        step("Проверить недопустимое значение");
+        CliOptions options = CliOptions.parse(new String[]{"create", "--stats-format", "xml"});
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> options.getChoice("stats-format", "text", "text", "json"));
+        assertTrue("Message must name the option", e.getMessage().contains("--stats-format"));
+    }
+}
@@ -0,0 +1,61 @@
+import cli.ScooterCli;
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import org.junit.Test;
+
+import static model.StepProvider.step;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Exit status rules; none of these reach the API.
+ */
+public class ScooterCliTest {
+
+    @Test
+    @DisplayName("Справка")
+    @Description("help и пустая командная строка завершаются с кодом 0.")
+    public void helpExitsWithZero() throws Exception {
+        step("Запустить help");
+        assertEquals("help must exit with 0", 0, ScooterCli.run("help"));
+        assertEquals("Empty command line must exit with 0", 0, ScooterCli.run());
+    }
+
+    @Test
+    @DisplayName("Неизвестная команда")
+    @Description("Неизвестная команда — ошибка использования, код 2.")
+    public void unknownCommandExitsWithTwo() throws Exception {
+        step("Запустить неизвестную команду");
+        assertEquals("Unknown command must exit with 2", 2, ScooterCli.run("delete"));
+    }
+
+    @Test
+    @DisplayName("Неоднозначная опция --format")
+    @Description("--format отклоняется в пользу --stats-format и --output-format, код 2.")
+    public void ambiguousFormatExitsWithTwo() throws Exception {
+        step("Запустить create с --format");
+        assertEquals("--format must exit with 2", 2, ScooterCli.run("create", "--format", "json"));
+    }
+
+    @Test
+    @DisplayName("Недопустимые значения опций")
+    @Description("Недопустимые --transport, --stats-format и --output-format — ошибка использования, код 2.")
+    public void invalidChoiceExitsWithTwo() throws Exception {
+        step("Запустить команды с недопустимыми значениями");
+        assertEquals("Bad transport must exit with 2", 2, ScooterCli.run("create", "--transport", "smtp"));
+        assertEquals("Bad stats format must exit with 2", 2,
+                ScooterCli.run("create", "--count", "0", "--stats-format", "xml"));
+        assertEquals("Bad stats format must exit with 2 for export", 2,
+                ScooterCli.run("export", "--stats-format", "xml"));
+        assertEquals("Bad output format must exit with 2", 2,
+                ScooterCli.run("export", "--output-format", "xml"));
+    }
+
+    @Test
+    @DisplayName("Успешный запуск без операций")
+    @Description("create без заказов завершается с кодом 0.")
+    public void runWithoutErrorsExitsWithZero() throws Exception {
+        step("Запустить create --count 0");
+        assertEquals("Run without errors must exit with 0", 0,
+                ScooterCli.run("create", "--count", "0", "--stats-format", "json"));
+    }
+}
@@ -0,0 +1,67 @@
+package model;
+
+import io.restassured.response.Response;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Request being built by a client, mirrors the REST Assured {@code given()} chain
+ * but is executed by whichever {@link Transport} is configured. Every call is timed into {@link Metrics}
+ * under the operation name.
+ */
+public class ApiRequest {
+
+    private final Transport transport;
+    private final String operation;
+    private final Map<String, Object> queryParams = new LinkedHashMap<>();
+    private Object body;
+
+    public ApiRequest(Transport transport, String operation) {
+        this.transport = transport;
+        this.operation = operation;
+    }
+
+    public ApiRequest queryParam(String name, Object value) {
+        queryParams.put(name, value);
+        return this;
+    }
+
+    public ApiRequest queryParams(Map<String, ?> params) {
+        queryParams.putAll(params);
+        return this;
+    }
+
+    public ApiRequest body(Object body) {
+        this.body = body;
+        return this;
+    }
+
+    public Response get(String path) {
+        return send("GET", path);
+    }
+
+    public Response post(String path) {
+        return send("POST", path);
+    }
+
+    public Response put(String path) {
+        return send("PUT", path);
+    }
+
+    public Response delete(String path) {
+        return send("DELETE", path);
+    }
+
+    private Response send(String method, String path) {
+        long begin = System.nanoTime();
+        Response response = null;
+        try {
+            response = transport.send(method, path, queryParams, body);
+            return response;
+        } finally {
+            Metrics.getInstance().record(operation, System.nanoTime() - begin,
+                    response == null || response.statusCode() >= 500 || response.statusCode() == 429);
+        }
+    }
+}
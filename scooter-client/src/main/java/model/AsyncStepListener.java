@@ -0,0 +1,18 @@
+package model;
+
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.TestResult;
+
+/**
+ * Registered through {@code META-INF/services}: adds the steps buffered by {@link StepRecorder} to each test
+ * result before it is written. Does nothing unless {@code allure.steps.async} is enabled.
+ */
+public class AsyncStepListener implements TestLifecycleListener {
+
+    @Override
+    public void beforeTestWrite(TestResult result) {
+        if (StepProvider.isAsync()) {
+            StepRecorder.getInstance().mergeInto(result);
+        }
+    }
+}
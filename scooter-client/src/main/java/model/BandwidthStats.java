@@ -0,0 +1,104 @@
+package model;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bytes on the wire versus encoded/decoded bytes per endpoint, collected by {@link HttpClientTransport}.
+ * With {@code -Dscooter.bandwidth.report=true} the table is printed when the JVM exits.
+ */
+public class BandwidthStats {
+
+    private static final BandwidthStats INSTANCE = new BandwidthStats();
+
+    private final Map<String, Counters> endpoints = new ConcurrentHashMap<>();
+
+    private BandwidthStats() {
+        if (Boolean.getBoolean("scooter.bandwidth.report")) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.print(report()), "bandwidth-report"));
+        }
+    }
+
+    public static BandwidthStats getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Groups requests by method and path with numeric ids replaced, e.g. {@code DELETE /api/v1/courier/{id}}.
+     */
+    public static String endpoint(String method, String path) {
+        return method + " " + path.replaceAll("/\\d+", "/{id}");
+    }
+
+    public void sent(String endpoint, long wireBytes, long rawBytes) {
+        Counters counters = counters(endpoint);
+        counters.sentWire.add(wireBytes);
+        counters.sentRaw.add(rawBytes);
+    }
+
+    public void received(String endpoint, long wireBytes, long decodedBytes) {
+        Counters counters = counters(endpoint);
+        counters.responses.increment();
+        counters.receivedWire.add(wireBytes);
+        counters.receivedDecoded.add(decodedBytes);
+    }
+
+    /**
+     * Counters of an endpoint; an endpoint without traffic gets zeros and is not registered.
+     */
+    public Counters get(String endpoint) {
+        Counters counters = endpoints.get(endpoint);
+        return counters == null ? new Counters() : counters;
+    }
+
+    public String report() {
+        StringBuilder report = new StringBuilder(String.format("%-36s %9s %12s %12s %7s %12s %12s %7s%n",
+                "endpoint", "responses", "sent wire", "sent raw", "ratio", "recv wire", "recv decoded", "ratio"));
+        new TreeMap<>(endpoints).forEach((endpoint, counters) -> report.append(String.format(
+                "%-36s %9d %12d %12d %7.2f %12d %12d %7.2f%n",
+                endpoint, counters.responses.sum(),
+                counters.sentWire.sum(), counters.sentRaw.sum(), ratio(counters.sentWire, counters.sentRaw),
+                counters.receivedWire.sum(), counters.receivedDecoded.sum(),
+                ratio(counters.receivedWire, counters.receivedDecoded))));
+        return report.toString();
+    }
+
+    private Counters counters(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, key -> new Counters());
+    }
+
+    private static double ratio(LongAdder wire, LongAdder raw) {
+        long rawBytes = raw.sum();
+        return rawBytes == 0 ? 1 : wire.sum() / (double) rawBytes;
+    }
+
+    public static class Counters {
+        private final LongAdder responses = new LongAdder();
+        private final LongAdder sentWire = new LongAdder();
+        private final LongAdder sentRaw = new LongAdder();
+        private final LongAdder receivedWire = new LongAdder();
+        private final LongAdder receivedDecoded = new LongAdder();
+
+        public long getResponses() {
+            return responses.sum();
+        }
+
+        public long getSentWire() {
+            return sentWire.sum();
+        }
+
+        public long getSentRaw() {
+            return sentRaw.sum();
+        }
+
+        public long getReceivedWire() {
+            return receivedWire.sum();
+        }
+
+        public long getReceivedDecoded() {
+            return receivedDecoded.sum();
+        }
+    }
+}
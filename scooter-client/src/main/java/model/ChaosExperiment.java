@@ -0,0 +1,53 @@
+package model;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs {@link LifecycleScenario} twice through the same {@link FaultProxy}: first with faults switched off
+ * as the baseline, then with the profile applied, and prints both runs side by side with the injected faults.
+ * <pre>
+ * java -cp ... -Dscooter.chaos=faults.properties -Dscooter.transport=http2 model.ChaosExperiment 50 20   # users, iterations
+ * </pre>
+ */
+public class ChaosExperiment {
+
+    public static void main(String[] args) {
+        int users = Integer.parseInt(args[0]);
+        int iterations = Integer.parseInt(args[1]);
+        FaultProxy proxy = RestClient.getFaultProxy();
+        if (proxy == null) {
+            throw new IllegalStateException("Set -Dscooter.chaos to a fault profile");
+        }
+        LifecycleScenario scenario = new LifecycleScenario();
+        AtomicLong seeds = new AtomicLong(System.currentTimeMillis() * 1000);
+        ScenarioRunner runner = new ScenarioRunner();
+
+        proxy.setEnabled(false);
+        ScenarioReport baseline = runner.run("lifecycle baseline", users, iterations,
+                () -> scenario.run(seeds.getAndIncrement()));
+        Map<String, OperationStats> baselineOperations = Metrics.getInstance().getOperations();
+        Metrics.getInstance().clear();
+
+        proxy.setEnabled(true);
+        ScenarioReport chaos = runner.run("lifecycle chaos", users, iterations,
+                () -> scenario.run(seeds.getAndIncrement()));
+        Map<String, OperationStats> chaosOperations = Metrics.getInstance().getOperations();
+        proxy.close();
+
+        System.out.println(ScenarioReport.header());
+        System.out.println(baseline);
+        System.out.println(chaos);
+        System.out.println();
+        System.out.printf("%-40s %10s %10s %10s %10s %9s %9s%n",
+                "operation", "base p99", "chaos p99", "base err%", "chaos err%", "calls", "calls");
+        chaosOperations.forEach((operation, stats) -> {
+            OperationStats base = baselineOperations.getOrDefault(operation, new OperationStats());
+            System.out.printf("%-40s %10.1f %10.1f %10.2f %10.2f %9d %9d%n", operation,
+                    base.percentileMillis(99), stats.percentileMillis(99),
+                    base.getErrorRate() * 100, stats.getErrorRate() * 100, base.getCount(), stats.getCount());
+        });
+        System.out.println();
+        System.out.print(proxy.report());
+    }
+}
@@ -0,0 +1,49 @@
+package model;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Couriers and orders created during a run that still have to be removed. Backed by concurrent sets,
+ * so any number of workers can register ids and clean up in parallel without a shared lock.
+ */
+public class CleanupRegistry {
+
+    private static final CleanupRegistry INSTANCE = new CleanupRegistry();
+
+    private final Set<Integer> couriers = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> orders = ConcurrentHashMap.newKeySet();
+
+    public static CleanupRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public void addCourier(Integer id) {
+        couriers.add(Objects.requireNonNull(id, "Courier id must not be null"));
+    }
+
+    public void addOrder(Integer track) {
+        orders.add(Objects.requireNonNull(track, "Order track must not be null"));
+    }
+
+    /**
+     * Cancels registered orders and deletes registered couriers. Each id is removed by exactly one caller.
+     */
+    public void cleanUp() {
+        for (Integer track : orders) {
+            if (orders.remove(track)) {
+                OrderClient.getInstance().cancel(track);
+            }
+        }
+        for (Integer id : couriers) {
+            if (couriers.remove(id)) {
+                CourierClient.getInstance().delete(id);
+            }
+        }
+    }
+
+    public int size() {
+        return couriers.size() + orders.size();
+    }
+}
@@ -1,9 +1,9 @@
 package model;
 
 public class Courier {
-    private String login;
-    private String password;
-    private String firstName;
+    private final String login;
+    private final String password;
+    private final String firstName;
 
     public Courier(String login, String password, String firstName) {
         this.login = login;
@@ -23,15 +23,15 @@ public class Courier {
         return firstName;
     }
 
-    public void setLogin(String login) {
-        this.login = login;
+    public Courier withLogin(String login) {
+        return new Courier(login, password, firstName);
     }
 
-    public void setPassword(String password) {
-        this.password = password;
+    public Courier withPassword(String password) {
+        return new Courier(login, password, firstName);
     }
 
-    public void setFirstName(String firstName) {
-        this.firstName = firstName;
+    public Courier withFirstName(String firstName) {
+        return new Courier(login, password, firstName);
     }
 }
@@ -0,0 +1,85 @@
+package model;
+
+import io.restassured.response.Response;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe: one instance serves all concurrent callers. The only state is the login cache
+ * of {@link #loginId}, kept in concurrent maps.
+ */
+public class CourierClient extends RestClient {
+
+    private static final CourierClient INSTANCE = new CourierClient();
+    private static final String LOGIN_PATH = "/api/v1/courier/login",
+                                COURIER_PATH = "/api/v1/courier";
+
+    private final Map<String, CompletableFuture<Integer>> idsByCredentials = new ConcurrentHashMap<>();
+    private final Map<Integer, String> credentialsById = new ConcurrentHashMap<>();
+
+    private CourierClient() {
+    }
+
+    public static CourierClient getInstance() {
+        return INSTANCE;
+    }
+
+    public Response login(CourierCredentials credentials) {
+        return request("login")
+                .body(credentials)
+                .post(LOGIN_PATH);
+    }
+
+    /**
+     * Id of the courier, logged in once and then served from cache. The cache is keyed by login and password,
+     * so a wrong password is always sent to the API. Concurrent callers with the same credentials
+     * wait for one request instead of sending their own. Failed logins are not cached, {@link #delete} evicts.
+     */
+    public Integer loginId(CourierCredentials credentials) {
+        String key = credentials.getLogin() + '\n' + credentials.getPassword();
+        CompletableFuture<Integer> id = new CompletableFuture<>();
+        CompletableFuture<Integer> cached = idsByCredentials.putIfAbsent(key, id);
+        if (cached != null) {
+            return cached.join();
+        }
+        try {
+            Integer value = JsonBody.getInt(login(credentials), "id");
+            if (value == null) {
+                idsByCredentials.remove(key, id);
+            } else {
+                credentialsById.put(value, key);
+            }
+            id.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            idsByCredentials.remove(key, id);
+            id.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public Response create(Courier courier) {
+        return request("create")
+                .body(courier)
+                .post(COURIER_PATH);
+    }
+
+    public void delete(Integer id) {
+        String key = id == null ? null : credentialsById.remove(id);
+        if (key != null) {
+            idsByCredentials.remove(key);
+        }
+        request("delete")
+                .delete(COURIER_PATH + "/" + id);
+    }
+
+    public Response accept(Integer id, Integer track) {
+        return request("accept")
+                .queryParam("courierId", id)
+                .put(COURIER_PATH + "/" + track);
+    }
+
+
+}
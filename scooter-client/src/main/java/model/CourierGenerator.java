@@ -0,0 +1,14 @@
+package model;
+
+public class CourierGenerator {
+    public static Courier getCourier() {
+        return new Courier("redTractor", "1234", "Peter");
+    }
+
+    /**
+     * Courier with a login unique to the seed, so load workers with different seed ranges never collide.
+     */
+    public static Courier getCourier(long seed) {
+        return new Courier("redTractor" + seed, "1234", "Peter");
+    }
+}
@@ -0,0 +1,260 @@
+package model;
+
+import com.google.gson.Gson;
+import io.restassured.response.Response;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.apache.http.HttpStatus.SC_CONFLICT;
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * Dispatcher simulation: a pool of virtual couriers placed at metro stations takes the orders listed by
+ * {@code /api/v1/orders}. Each new order goes to the idle courier at the nearest station and is accepted
+ * concurrently; an order already taken by someone else (409) counts as a conflict and the courier becomes
+ * idle again. Any other failed accept (5xx, 429, a dropped connection) puts the order back in the queue,
+ * up to {@value #MAX_ATTEMPTS} attempts, after which it counts as an error. Reports assignments per second
+ * and the latency from first seeing an order to its accept.
+ * <p>
+ * Orders are rescanned once per scan interval; while a scan finds nothing new and no waiting order could be
+ * assigned, the interval doubles up to {@value #MAX_BACKOFF}x, so an idle run does not flood {@code /api/v1/orders}.
+ * <pre>
+ * java -cp ... model.DispatchSimulator 1000 60 10 1000    # couriers, seconds, pages of orders to scan, scan ms
+ * </pre>
+ */
+public class DispatchSimulator implements Closeable {
+
+    private static final int METRO_STATIONS = 200;
+    private static final int MAX_BACKOFF = 16;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long DEFAULT_SCAN_MILLIS = 1000;
+
+    private final OrderClient orderClient = OrderClient.getInstance();
+    private final CourierClient courierClient = CourierClient.getInstance();
+    private final CleanupRegistry cleanup = CleanupRegistry.getInstance();
+    private final Gson gson = new Gson();
+    private final LongAdder couriers = new LongAdder();
+    private final LongAdder failedCouriers = new LongAdder();
+    private final StationIndex<VirtualCourier> idle = new StationIndex<>();
+    private final Queue<PendingOrder> waiting = new ConcurrentLinkedQueue<>();
+    private final Set<Integer> seen = ConcurrentHashMap.newKeySet();
+    private final Histogram latency = new ConcurrentHistogram(3);
+    private final LongAdder assigned = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public static void main(String[] args) {
+        try (DispatchSimulator simulator = new DispatchSimulator()) {
+            simulator.start(Integer.parseInt(args[0]), System.currentTimeMillis() * 1000);
+            Duration scanInterval = Duration.ofMillis(args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SCAN_MILLIS);
+            System.out.print(simulator.run(Duration.ofSeconds(Long.parseLong(args[1])), Integer.parseInt(args[2]),
+                    scanInterval));
+        }
+    }
+
+    /**
+     * Creates and logs in {@code count} couriers concurrently and places each at a station derived from its seed.
+     * Couriers that cannot log in are left out of the pool and counted as failed.
+     */
+    public void start(int count, long firstSeed) {
+        ExecutorService executor = VirtualThreads.newExecutor();
+        try {
+            List<Future<?>> created = new ArrayList<>(count);
+            for (long seed = firstSeed; seed < firstSeed + count; seed++) {
+                Courier courier = CourierGenerator.getCourier(seed);
+                int station = 1 + (int) Math.floorMod(seed, (long) METRO_STATIONS);
+                created.add(executor.submit(() -> {
+                    courierClient.create(courier);
+                    Integer id = courierClient.loginId(CourierCredentials.from(courier));
+                    if (id == null) {
+                        failedCouriers.increment();
+                        return null;
+                    }
+                    cleanup.addCourier(id);
+                    couriers.increment();
+                    idle.add(station, new VirtualCourier(id, station));
+                    return null;
+                }));
+            }
+            for (Future<?> courier : created) {
+                courier.get();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot create couriers", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Scans the first {@code pages} pages of orders every {@code scanInterval} until {@code duration} has passed.
+     */
+    public String run(Duration duration, int pages, Duration scanInterval) {
+        ExecutorService executor = VirtualThreads.newExecutor();
+        long begin = System.nanoTime();
+        long deadline = begin + duration.toNanos();
+        long interval = scanInterval.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                long scanStart = System.nanoTime();
+                int found = 0;
+                for (int page = 0; page < pages && System.nanoTime() < deadline; page++) {
+                    for (ListedOrder order : fetch(page)) {
+                        if (order.id != null && order.track != null && seen.add(order.id)) {
+                            found++;
+                            dispatch(new PendingOrder(order.track, station(order.metroStation)), executor);
+                        }
+                    }
+                }
+                int waitingBefore = waiting.size();
+                for (int i = waitingBefore; i > 0; i--) {
+                    PendingOrder order = waiting.poll();
+                    if (order == null) {
+                        break;
+                    }
+                    dispatch(order, executor);
+                }
+                boolean progress = found > 0 || waiting.size() < waitingBefore;
+                interval = progress ? scanInterval.toNanos() : Math.min(interval * 2, scanInterval.toNanos() * MAX_BACKOFF);
+                long pause = Math.min(scanStart + interval, deadline) - System.nanoTime();
+                if (pause > 0) {
+                    TimeUnit.NANOSECONDS.sleep(pause);
+                }
+            }
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return report(System.nanoTime() - begin);
+    }
+
+    public long getAssigned() {
+        return assigned.sum();
+    }
+
+    public long getFailedCouriers() {
+        return failedCouriers.sum();
+    }
+
+    public long getConflicts() {
+        return conflicts.sum();
+    }
+
+    /**
+     * Deletes the couriers created by {@link #start}, together with anything else registered for cleanup.
+     */
+    @Override
+    public void close() {
+        cleanup.cleanUp();
+    }
+
+    private List<ListedOrder> fetch(int page) {
+        Response response = orderClient.getOrdersByPage(page);
+        if (response.statusCode() != SC_OK) {
+            errors.increment();
+            return List.of();
+        }
+        OrdersPage orders = gson.fromJson(response.asString(), OrdersPage.class);
+        return orders.orders == null ? List.of() : orders.orders;
+    }
+
+    private void dispatch(PendingOrder order, ExecutorService executor) {
+        VirtualCourier courier = idle.pollNearest(order.station);
+        if (courier == null) {
+            waiting.add(order);
+            return;
+        }
+        executor.execute(() -> accept(courier, order));
+    }
+
+    private void accept(VirtualCourier courier, PendingOrder order) {
+        int statusCode;
+        try {
+            statusCode = courierClient.accept(courier.id, order.track).statusCode();
+        } catch (RuntimeException e) {
+            statusCode = -1;
+        }
+        if (statusCode == SC_OK) {
+            assigned.increment();
+            latency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - order.seenAt));
+            courier.station = order.station;
+        } else if (statusCode == SC_CONFLICT) {
+            conflicts.increment();
+        } else if (++order.attempts < MAX_ATTEMPTS) {
+            retries.increment();
+            waiting.add(order);
+        } else {
+            errors.increment();
+        }
+        idle.add(courier.station, courier);
+    }
+
+    private String report(long elapsedNanos) {
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        return String.format(Locale.ROOT, "%-10s %8s %10s %10s %8s %8s %8s %14s %9s %9s %9s%n"
+                        + "%-10d %8d %10d %10d %8d %8d %8d %14.1f %9.1f %9.1f %9.1f%n",
+                "couriers", "failed", "assigned", "conflicts", "retries", "errors", "waiting", "assignments/s", "p50 ms", "p99 ms", "max ms",
+                couriers.sum(), failedCouriers.sum(), assigned.sum(), conflicts.sum(), retries.sum(), errors.sum(),
+                waiting.size(),
+                assigned.sum() / seconds, latency.getValueAtPercentile(50) / 1000.0,
+                latency.getValueAtPercentile(99) / 1000.0, latency.getMaxValue() / 1000.0);
+    }
+
+    private static int station(String metroStation) {
+        try {
+            return Integer.parseInt(metroStation.trim());
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static class VirtualCourier {
+        private final Integer id;
+        private volatile int station;
+
+        private VirtualCourier(Integer id, int station) {
+            this.id = id;
+            this.station = station;
+        }
+    }
+
+    private static class PendingOrder {
+        private final Integer track;
+        private final int station;
+        private final long seenAt = System.nanoTime();
+        private int attempts;
+
+        private PendingOrder(Integer track, int station) {
+            this.track = track;
+            this.station = station;
+        }
+    }
+
+    private static class OrdersPage {
+        private List<ListedOrder> orders;
+    }
+
+    private static class ListedOrder {
+        private Integer id;
+        private Integer track;
+        private String metroStation;
+    }
+}
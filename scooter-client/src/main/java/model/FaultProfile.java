@@ -0,0 +1,63 @@
+package model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Fault rules per endpoint, read from a properties file:
+ * <pre>
+ * default.latency=uniform:5ms:20ms
+ * /api/v1/orders.latency=lognormal:150ms:0.8
+ * /api/v1/orders.error5xx=2%
+ * /api/v1/orders.slowBody=4096
+ * /api/v1/courier/login.throttle429=5%
+ * /api/v1/courier/login.drop=1%
+ * </pre>
+ * A request gets the rule of the longest endpoint that prefixes its path, or the {@code default} rule.
+ */
+public class FaultProfile {
+
+    private final FaultRule defaults;
+    private final List<FaultRule> rules;
+
+    public FaultProfile(FaultRule defaults, List<FaultRule> rules) {
+        this.defaults = defaults;
+        this.rules = new ArrayList<>(rules);
+        this.rules.sort(Comparator.comparingInt((FaultRule rule) -> rule.getEndpoint().length()).reversed());
+    }
+
+    public static FaultProfile load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return from(properties);
+    }
+
+    public static FaultProfile from(Properties properties) {
+        FaultRule defaults = FaultRule.from(properties, "default", "default", FaultRule.none("default"));
+        List<FaultRule> rules = new ArrayList<>();
+        properties.stringPropertyNames().stream()
+                .filter(key -> key.startsWith("/"))
+                .map(key -> key.substring(0, key.lastIndexOf('.')))
+                .distinct()
+                .forEach(endpoint -> rules.add(FaultRule.from(properties, endpoint, endpoint, defaults)));
+        return new FaultProfile(defaults, rules);
+    }
+
+    public FaultRule ruleFor(String path) {
+        for (FaultRule rule : rules) {
+            if (path.startsWith(rule.getEndpoint())) {
+                return rule;
+            }
+        }
+        return defaults;
+    }
+}
@@ -0,0 +1,260 @@
+package model;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reverse proxy in front of the API that injects the faults of a {@link FaultProfile}: added latency,
+ * dropped connections, 503 responses, 429 with {@code Retry-After} and slowly trickled response bodies.
+ * Faults are only injected while the proxy is enabled, otherwise requests are forwarded untouched, so the
+ * same setup gives a baseline and a chaos run. Injected faults are counted per endpoint.
+ * <p>
+ * With {@code -Dscooter.chaos=faults.properties} {@link RestClient} starts one in-process on the loopback
+ * interface and sends all clients through it, see {@link RestClient#getFaultProxy()}. Standalone it also
+ * listens on loopback unless a bind address is given:
+ * <pre>
+ * java -cp ... model.FaultProxy faults.properties 8089 http://qa-scooter.praktikum-services.ru [0.0.0.0]
+ * </pre>
+ */
+public class FaultProxy implements Closeable {
+
+    private static final Set<String> HOP_HEADERS = Set.of(
+            "connection", "content-length", "expect", "host", "transfer-encoding", "upgrade", "keep-alive");
+    private static final int SLOW_CHUNK_BYTES = 256;
+
+    private final String upstream;
+    private final FaultProfile profile;
+    private final HttpServer server;
+    private final ExecutorService executor = VirtualThreads.newExecutor();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final Map<String, LongAdder> faults = new ConcurrentHashMap<>();
+    private volatile boolean enabled = true;
+
+    /**
+     * Proxy listening on the loopback interface only.
+     */
+    public FaultProxy(int port, String upstream, FaultProfile profile) throws IOException {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), upstream, profile);
+    }
+
+    public FaultProxy(InetSocketAddress address, String upstream, FaultProfile profile) throws IOException {
+        this.upstream = upstream.endsWith("/") ? upstream.substring(0, upstream.length() - 1) : upstream;
+        this.profile = profile;
+        this.server = HttpServer.create(address, 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    public static void main(String[] args) throws IOException {
+        InetSocketAddress address = args.length > 3
+                ? new InetSocketAddress(args[3], Integer.parseInt(args[1]))
+                : new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(args[1]));
+        FaultProxy proxy = new FaultProxy(address, args[2], FaultProfile.load(Path.of(args[0])));
+        proxy.start();
+        System.out.println("Fault proxy for " + args[2] + " listening on " + address);
+    }
+
+    /**
+     * Loopback proxy in front of {@code upstream} when {@code scooter.chaos} names a fault profile, otherwise {@code null}.
+     */
+    static FaultProxy fromSystemProperties(String upstream) {
+        String profile = System.getProperty("scooter.chaos");
+        if (profile == null) {
+            return null;
+        }
+        try {
+            FaultProxy proxy = new FaultProxy(0, upstream, FaultProfile.load(Path.of(profile)));
+            // the server dispatcher inherits the daemon flag of the starting thread and must not keep the JVM alive
+            Thread starter = new Thread(proxy::start);
+            starter.setDaemon(true);
+            starter.start();
+            starter.join();
+            return proxy;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start fault proxy with " + profile, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fault proxy start was interrupted", e);
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public String getUrl() {
+        InetAddress address = server.getAddress().getAddress();
+        String host = address.isAnyLocalAddress() ? "localhost" : address.getHostAddress();
+        return "http://" + (address instanceof Inet6Address ? "[" + host + "]" : host) + ":" + server.getAddress().getPort();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Injected faults by {@code endpoint fault}, e.g. {@code /api/v1/orders error5xx}.
+     */
+    public Map<String, Long> getFaults() {
+        Map<String, Long> counts = new TreeMap<>();
+        faults.forEach((key, count) -> counts.put(key, count.sum()));
+        return counts;
+    }
+
+    public void resetFaults() {
+        faults.clear();
+    }
+
+    public String report() {
+        StringBuilder report = new StringBuilder(String.format("%-40s %12s %9s%n", "endpoint", "fault", "count"));
+        getFaults().forEach((key, count) -> {
+            int split = key.lastIndexOf(' ');
+            report.append(String.format("%-40s %12s %9d%n", key.substring(0, split), key.substring(split + 1), count));
+        });
+        return report.toString();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            FaultRule rule = profile.ruleFor(exchange.getRequestURI().getPath());
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            if (enabled && inject(exchange, rule)) {
+                return;
+            }
+            HttpResponse<byte[]> response;
+            try {
+                response = client.send(forward(exchange, requestBody), HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                respond(exchange, 502, "Upstream " + upstream + " failed: " + e.getMessage());
+                return;
+            }
+            reply(exchange, response, enabled ? rule.getSlowBody() : 0, rule);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Applies latency and at most one terminal fault, returns {@code true} when the request was answered.
+     */
+    private boolean inject(HttpExchange exchange, FaultRule rule) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = rule.getLatency().sampleNanos(random);
+        if (delay > 0) {
+            count(rule, "latency");
+            TimeUnit.NANOSECONDS.sleep(delay);
+        }
+        double roll = random.nextDouble();
+        if (roll < rule.getDrop()) {
+            // closing before the status line makes the client see a reset connection
+            count(rule, "drop");
+            return true;
+        }
+        roll -= rule.getDrop();
+        if (roll < rule.getError5xx()) {
+            count(rule, "error5xx");
+            respond(exchange, 503, "Injected fault");
+            return true;
+        }
+        roll -= rule.getError5xx();
+        if (roll < rule.getThrottle429()) {
+            count(rule, "throttle429");
+            exchange.getResponseHeaders().add("Retry-After", "1");
+            respond(exchange, 429, "Injected throttling");
+            return true;
+        }
+        return false;
+    }
+
+    private HttpRequest forward(HttpExchange exchange, byte[] body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(upstream + exchange.getRequestURI()))
+                .method(exchange.getRequestMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        exchange.getRequestHeaders().forEach((name, values) -> {
+            if (!HOP_HEADERS.contains(name.toLowerCase())) {
+                values.forEach(value -> request.header(name, value));
+            }
+        });
+        return request.build();
+    }
+
+    private void reply(HttpExchange exchange, HttpResponse<byte[]> response, long bytesPerSecond, FaultRule rule)
+            throws IOException, InterruptedException {
+        response.headers().map().forEach((name, values) -> {
+            if (!name.startsWith(":") && !HOP_HEADERS.contains(name.toLowerCase())) {
+                exchange.getResponseHeaders().put(name, List.copyOf(values));
+            }
+        });
+        byte[] body = response.body();
+        if (body.length == 0 || exchange.getRequestMethod().equals("HEAD")) {
+            exchange.sendResponseHeaders(response.statusCode(), -1);
+            return;
+        }
+        if (bytesPerSecond <= 0) {
+            exchange.sendResponseHeaders(response.statusCode(), body.length);
+            exchange.getResponseBody().write(body);
+            return;
+        }
+        count(rule, "slowBody");
+        exchange.sendResponseHeaders(response.statusCode(), 0);
+        OutputStream out = exchange.getResponseBody();
+        long chunkNanos = TimeUnit.SECONDS.toNanos(SLOW_CHUNK_BYTES) / bytesPerSecond;
+        for (int offset = 0; offset < body.length; offset += SLOW_CHUNK_BYTES) {
+            out.write(body, offset, Math.min(SLOW_CHUNK_BYTES, body.length - offset));
+            out.flush();
+            TimeUnit.NANOSECONDS.sleep(chunkNanos);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = ("{\"code\":" + status + ",\"message\":\"" + message.replace("\"", "'") + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private void count(FaultRule rule, String fault) {
+        faults.computeIfAbsent(rule.getEndpoint() + " " + fault, key -> new LongAdder()).increment();
+    }
+}
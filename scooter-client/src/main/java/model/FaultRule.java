@@ -0,0 +1,78 @@
+package model;
+
+import java.util.Properties;
+
+/**
+ * Faults injected for one endpoint. Probabilities are fractions of requests, {@code slowBody} is the
+ * response body speed in bytes per second (0 = unlimited).
+ */
+public class FaultRule {
+
+    private final String endpoint;
+    private final LatencyDistribution latency;
+    private final double drop;
+    private final double error5xx;
+    private final double throttle429;
+    private final long slowBody;
+
+    public FaultRule(String endpoint, LatencyDistribution latency, double drop, double error5xx, double throttle429,
+                     long slowBody) {
+        this.endpoint = endpoint;
+        this.latency = latency;
+        this.drop = drop;
+        this.error5xx = error5xx;
+        this.throttle429 = throttle429;
+        this.slowBody = slowBody;
+    }
+
+    /**
+     * Reads {@code <prefix>.latency}, {@code .drop}, {@code .error5xx}, {@code .throttle429} and {@code .slowBody},
+     * falling back to {@code defaults} for missing keys.
+     */
+    static FaultRule from(Properties properties, String prefix, String endpoint, FaultRule defaults) {
+        String latency = properties.getProperty(prefix + ".latency");
+        return new FaultRule(endpoint,
+                latency == null ? defaults.latency : LatencyDistribution.parse(latency),
+                fraction(properties, prefix + ".drop", defaults.drop),
+                fraction(properties, prefix + ".error5xx", defaults.error5xx),
+                fraction(properties, prefix + ".throttle429", defaults.throttle429),
+                Long.parseLong(properties.getProperty(prefix + ".slowBody", String.valueOf(defaults.slowBody))));
+    }
+
+    static FaultRule none(String endpoint) {
+        return new FaultRule(endpoint, LatencyDistribution.NONE, 0, 0, 0, 0);
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    public double getDrop() {
+        return drop;
+    }
+
+    public double getError5xx() {
+        return error5xx;
+    }
+
+    public double getThrottle429() {
+        return throttle429;
+    }
+
+    public long getSlowBody() {
+        return slowBody;
+    }
+
+    private static double fraction(Properties properties, String key, double defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        value = value.trim();
+        return value.endsWith("%") ? Double.parseDouble(value.substring(0, value.length() - 1)) / 100 : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,189 @@
+package model;
+
+import com.google.gson.Gson;
+import io.restassured.response.Response;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Transport on top of {@link java.net.http.HttpClient}. One client is shared by all requests,
+ * so with {@link HttpClient.Version#HTTP_2} many concurrent calls are multiplexed over a few connections.
+ * Plain {@code http://} URLs are upgraded with h2c, servers that only speak HTTP/1.1 are used as is.
+ * <p>
+ * With {@code -Dscooter.compression=true} gzip/deflate responses are requested and decompressed while
+ * the body is read; {@code -Dscooter.compression.requests=true} additionally gzips request bodies of at least
+ * {@code scooter.compression.minBytes} (128 by default, enough for an {@link Order} of about 200 bytes while
+ * leaving the short courier bodies as they are). Wire and decoded sizes are counted in {@link BandwidthStats}.
+ */
+public class HttpClientTransport implements Transport {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final boolean COMPRESSION = Boolean.getBoolean("scooter.compression");
+    private static final boolean COMPRESS_REQUESTS = Boolean.getBoolean("scooter.compression.requests");
+    private static final int COMPRESS_MIN_BYTES = Integer.getInteger("scooter.compression.minBytes", 128);
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final Gson gson = new Gson();
+
+    public HttpClientTransport(String baseUrl, HttpClient.Version version) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+    }
+
+    @Override
+    public Response send(String method, String path, Map<String, ?> queryParams, Object body) {
+        String endpoint = BandwidthStats.endpoint(method, path);
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path, queryParams))
+                .header("Content-type", "application/json");
+        if (COMPRESSION) {
+            request.header("Accept-Encoding", "gzip, deflate");
+        }
+        request.method(method, publisher(endpoint, body, request));
+        try {
+            HttpResponse<InputStream> response = client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+            return toResponse(response, decode(endpoint, response));
+        } catch (IOException e) {
+            throw new IllegalStateException(method + " " + path + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(method + " " + path + " was interrupted", e);
+        }
+    }
+
+    private HttpRequest.BodyPublisher publisher(String endpoint, Object body, HttpRequest.Builder request) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        byte[] json = gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+        byte[] wire = json;
+        if (COMPRESS_REQUESTS && json.length >= COMPRESS_MIN_BYTES) {
+            wire = gzip(json);
+            request.header("Content-Encoding", "gzip");
+        }
+        BandwidthStats.getInstance().sent(endpoint, wire.length, json.length);
+        return HttpRequest.BodyPublishers.ofByteArray(wire);
+    }
+
+    private static byte[] decode(String endpoint, HttpResponse<InputStream> response) throws IOException {
+        String encoding = response.headers().firstValue("Content-Encoding").orElse("identity");
+        try (CountingInputStream wire = new CountingInputStream(response.body());
+             InputStream decoded = decoder(encoding, wire)) {
+            byte[] body = decoded.readAllBytes();
+            BandwidthStats.getInstance().received(endpoint, wire.count, body.length);
+            return body;
+        }
+    }
+
+    private static InputStream decoder(String encoding, InputStream wire) throws IOException {
+        PushbackInputStream body = new PushbackInputStream(wire, 1);
+        int first = body.read();
+        if (first == -1) {
+            // 204, HEAD and other empty bodies carry no gzip header to decode, whatever Content-Encoding says
+            return body;
+        }
+        body.unread(first);
+        switch (encoding.trim().toLowerCase()) {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(body);
+            case "deflate":
+                return new InflaterInputStream(body);
+            case "identity":
+                return body;
+            default:
+                throw new IOException("Unsupported Content-Encoding: " + encoding);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot gzip request body", e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private URI uri(String path, Map<String, ?> queryParams) {
+        StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+        queryParams.forEach((name, value) -> {
+            if (value instanceof Iterable) {
+                ((Iterable<?>) value).forEach(item -> query.add(encode(name) + "=" + encode(item)));
+            } else {
+                query.add(encode(name) + "=" + encode(value));
+            }
+        });
+        return URI.create(baseUrl + path + query);
+    }
+
+    private static String encode(Object value) {
+        return URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static Response toResponse(HttpResponse<InputStream> response, byte[] body) {
+        Map<String, List<String>> headers = new LinkedHashMap<>(response.headers().map());
+        headers.keySet().removeIf(name -> name.equalsIgnoreCase("Content-Encoding") || name.equalsIgnoreCase("Content-Length"));
+        return LazyResponse.of(response.statusCode(), statusLine(response.version(), response.statusCode()), headers, body);
+    }
+
+    /**
+     * Status line as REST Assured reports it, e.g. {@code HTTP/1.1 201 Created}.
+     */
+    private static String statusLine(HttpClient.Version version, int statusCode) {
+        String protocol = version == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        String reason = EnglishReasonPhraseCatalog.INSTANCE.getReason(statusCode, Locale.ENGLISH);
+        return protocol + " " + statusCode + (reason == null ? "" : " " + reason);
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
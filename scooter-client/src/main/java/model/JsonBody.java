@@ -0,0 +1,22 @@
+package model;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.restassured.response.Response;
+
+/**
+ * Reads top-level fields of a JSON response with Gson. Unlike {@code then().extract().path(...)} it does not
+ * initialise REST Assured's Groovy-based JsonPath, which keeps load runs and startup cheap.
+ */
+public class JsonBody {
+
+    public static Integer getInt(Response response, String field) {
+        JsonElement body = JsonParser.parseString(response.asString());
+        if (!body.isJsonObject()) {
+            return null;
+        }
+        JsonElement value = ((JsonObject) body).get(field);
+        return value == null || value.isJsonNull() ? null : value.getAsInt();
+    }
+}
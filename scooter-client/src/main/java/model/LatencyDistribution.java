@@ -0,0 +1,79 @@
+package model;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Injected delay, parsed from {@code none}, {@code fixed:100ms}, {@code uniform:10ms:200ms},
+ * {@code exponential:50ms} (mean) or {@code lognormal:80ms:0.6} (median and sigma).
+ */
+public class LatencyDistribution {
+
+    private enum Kind { NONE, FIXED, UNIFORM, EXPONENTIAL, LOGNORMAL }
+
+    public static final LatencyDistribution NONE = new LatencyDistribution(Kind.NONE, 0, 0, "none");
+
+    private final Kind kind;
+    private final double first;
+    private final double second;
+    private final String spec;
+
+    private LatencyDistribution(Kind kind, double first, double second, String spec) {
+        this.kind = kind;
+        this.first = first;
+        this.second = second;
+        this.spec = spec;
+    }
+
+    public static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        switch (parts[0]) {
+            case "none":
+                return NONE;
+            case "fixed":
+                return new LatencyDistribution(Kind.FIXED, nanos(parts[1]), 0, spec);
+            case "uniform":
+                return new LatencyDistribution(Kind.UNIFORM, nanos(parts[1]), nanos(parts[2]), spec);
+            case "exponential":
+                return new LatencyDistribution(Kind.EXPONENTIAL, nanos(parts[1]), 0, spec);
+            case "lognormal":
+                return new LatencyDistribution(Kind.LOGNORMAL, nanos(parts[1]), Double.parseDouble(parts[2]), spec);
+            default:
+                throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        }
+    }
+
+    public long sampleNanos(Random random) {
+        switch (kind) {
+            case FIXED:
+                return (long) first;
+            case UNIFORM:
+                return (long) (first + random.nextDouble() * (second - first));
+            case EXPONENTIAL:
+                return (long) (-first * Math.log(1 - random.nextDouble()));
+            case LOGNORMAL:
+                return (long) (first * Math.exp(second * random.nextGaussian()));
+            default:
+                return 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+
+    private static double nanos(String duration) {
+        String value = duration.trim();
+        if (value.endsWith("ms")) {
+            return TimeUnit.MILLISECONDS.toNanos(1) * Double.parseDouble(value.substring(0, value.length() - 2));
+        }
+        if (value.endsWith("us")) {
+            return TimeUnit.MICROSECONDS.toNanos(1) * Double.parseDouble(value.substring(0, value.length() - 2));
+        }
+        if (value.endsWith("s")) {
+            return TimeUnit.SECONDS.toNanos(1) * Double.parseDouble(value.substring(0, value.length() - 1));
+        }
+        throw new IllegalArgumentException("Duration needs a unit (us, ms, s): " + duration);
+    }
+}
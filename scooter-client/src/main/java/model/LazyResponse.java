@@ -0,0 +1,115 @@
+package model;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Response} over a status, headers and body already read by {@link HttpClientTransport}.
+ * Status code, body, headers and identity {@code equals}/{@code hashCode} are answered directly; the REST Assured
+ * response (and with it Groovy and JsonPath) is only built the first time anything else, such as {@code then()},
+ * is called.
+ */
+public class LazyResponse implements InvocationHandler {
+
+    private final int statusCode;
+    private final String statusLine;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private volatile Response response;
+
+    private LazyResponse(int statusCode, String statusLine, Map<String, List<String>> headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public static Response of(int statusCode, String statusLine, Map<String, List<String>> headers, byte[] body) {
+        return (Response) Proxy.newProxyInstance(Response.class.getClassLoader(), new Class<?>[]{Response.class},
+                new LazyResponse(statusCode, statusLine, headers, body));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        int arity = args == null ? 0 : args.length;
+        switch (method.getName()) {
+            case "statusCode":
+            case "getStatusCode":
+                return statusCode;
+            case "statusLine":
+            case "getStatusLine":
+                return statusLine;
+            case "asString":
+                if (arity == 0) {
+                    return new String(body, StandardCharsets.UTF_8);
+                }
+                break;
+            case "asByteArray":
+                return body.clone();
+            case "header":
+            case "getHeader":
+                return header((String) args[0]);
+            case "contentType":
+            case "getContentType":
+                String contentType = header("Content-Type");
+                return contentType == null ? "" : contentType;
+            case "toString":
+                return "LazyResponse[" + statusLine + "]";
+            case "equals":
+                if (arity == 1) {
+                    return proxy == args[0];
+                }
+                break;
+            case "hashCode":
+                if (arity == 0) {
+                    return System.identityHashCode(proxy);
+                }
+                break;
+            default:
+                break;
+        }
+        try {
+            return method.invoke(materialize(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private String header(String name) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    private Response materialize() {
+        Response materialized = response;
+        if (materialized == null) {
+            List<Header> list = new ArrayList<>();
+            headers.forEach((name, values) -> values.forEach(value -> list.add(new Header(name, value))));
+            String contentType = header("Content-Type");
+            materialized = new ResponseBuilder()
+                    .setStatusCode(statusCode)
+                    .setStatusLine(statusLine)
+                    .setHeaders(new Headers(list))
+                    .setContentType(contentType == null ? "application/json" : contentType)
+                    .setBody(body)
+                    .build();
+            response = materialized;
+        }
+        return materialized;
+    }
+}
@@ -0,0 +1,60 @@
+package model;
+
+import io.restassured.response.Response;
+
+import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.apache.http.HttpStatus.SC_OK;
+
+/**
+ * Full courier and order lifecycle for one seed: create and log in a courier, create an order,
+ * accept and track it, then cancel the order and delete the courier.
+ */
+public class LifecycleScenario {
+
+    private final OrderClient orderClient = OrderClient.getInstance();
+    private final CourierClient courierClient = CourierClient.getInstance();
+
+    public void run(long seed) {
+        Courier courier = CourierGenerator.getCourier(seed);
+        CourierCredentials credentials = CourierCredentials.from(courier);
+        expect(courierClient.create(courier), SC_CREATED, "create courier");
+        Integer id = null;
+        Integer track = null;
+        try {
+            Response login = expect(courierClient.login(credentials), SC_OK, "login");
+            id = JsonBody.getInt(login, "id");
+            Response order = expect(orderClient.create(OrderGenerator.getOrder(seed)), SC_CREATED, "create order");
+            track = JsonBody.getInt(order, "track");
+            courierClient.accept(id, track);
+            expect(orderClient.track(track), SC_OK, "track order");
+        } finally {
+            if (track != null) {
+                orderClient.cancel(track);
+            }
+            deleteCourier(id, credentials);
+        }
+    }
+
+    /**
+     * Deletes the created courier even when its login failed, logging in once more to find its id.
+     */
+    private void deleteCourier(Integer id, CourierCredentials credentials) {
+        if (id == null) {
+            try {
+                id = courierClient.loginId(credentials);
+            } catch (RuntimeException e) {
+                return;
+            }
+        }
+        if (id != null) {
+            courierClient.delete(id);
+        }
+    }
+
+    private static Response expect(Response response, int statusCode, String action) {
+        if (response.statusCode() != statusCode) {
+            throw new IllegalStateException(action + " returned " + response.statusCode() + ": " + response.asString());
+        }
+        return response;
+    }
+}
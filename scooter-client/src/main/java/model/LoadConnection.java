@@ -0,0 +1,57 @@
+package model;
+
+import com.google.gson.Gson;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Coordinator/worker socket exchanging {@link LoadMessage}s, one JSON document per line.
+ */
+public class LoadConnection implements Closeable {
+
+    private static final Gson GSON = new Gson();
+
+    private final Socket socket;
+    private final BufferedReader in;
+    private final PrintWriter out;
+
+    public LoadConnection(Socket socket) throws IOException {
+        this.socket = socket;
+        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Limits how long {@link #receive} waits; a timeout surfaces as {@link java.net.SocketTimeoutException}.
+     */
+    public void setTimeout(long millis) throws IOException {
+        socket.setSoTimeout((int) Math.max(1, Math.min(Integer.MAX_VALUE, millis)));
+    }
+
+    public void send(LoadMessage message) {
+        out.println(GSON.toJson(message));
+    }
+
+    public LoadMessage receive(String type) throws IOException {
+        String line = in.readLine();
+        if (line == null) {
+            throw new IOException("Connection closed while waiting for " + type);
+        }
+        LoadMessage message = GSON.fromJson(line, LoadMessage.class);
+        if (!type.equals(message.type)) {
+            throw new IOException("Expected " + type + " but got " + message.type);
+        }
+        return message;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,141 @@
+package model;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distributes {@link LifecycleScenario} load over several {@link LoadWorker} processes.
+ * Every worker gets its own seed range of {@code users * iterations} seeds, so generated couriers and
+ * orders never collide. Workers are started together once all of them are ready, and their HDR
+ * histograms and error counters are merged into one report. Workers that send no result within the result
+ * timeout ({@code -Dscooter.load.resultTimeoutMinutes}, 60 by default) fail the run with their names.
+ * <pre>
+ * java -cp ... model.LoadCoordinator 7070 4 250 10    # port, workers, users per worker, iterations
+ * </pre>
+ */
+public class LoadCoordinator implements Closeable {
+
+    private static final int ACCEPT_TIMEOUT_MILLIS = (int) TimeUnit.MINUTES.toMillis(5);
+    private static final Duration RESULT_TIMEOUT = Duration.ofMinutes(Long.getLong("scooter.load.resultTimeoutMinutes", 60));
+
+    private final ServerSocket server;
+    private final Duration resultTimeout;
+    private final Metrics metrics = new Metrics();
+
+    public LoadCoordinator(int port) throws IOException {
+        this(port, RESULT_TIMEOUT);
+    }
+
+    /**
+     * @param resultTimeout how long after the start all workers have to report their results
+     */
+    public LoadCoordinator(int port, Duration resultTimeout) throws IOException {
+        this.server = new ServerSocket(port);
+        this.server.setSoTimeout(ACCEPT_TIMEOUT_MILLIS);
+        this.resultTimeout = resultTimeout;
+    }
+
+    public static void main(String[] args) throws IOException {
+        try (LoadCoordinator coordinator = new LoadCoordinator(Integer.parseInt(args[0]))) {
+            ScenarioReport report = coordinator.run(Integer.parseInt(args[1]), Integer.parseInt(args[2]),
+                    Integer.parseInt(args[3]), System.currentTimeMillis() * 1000);
+            System.out.println(ScenarioReport.header());
+            System.out.println(report);
+            System.out.print(coordinator.getMetrics().report());
+        }
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Merged per-operation metrics of all workers, filled by {@link #run}.
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public ScenarioReport run(int workers, int users, int iterations, long firstSeed) {
+        List<LoadConnection> connections = new ArrayList<>(workers);
+        List<String> names = new ArrayList<>(workers);
+        try {
+            for (int i = 0; i < workers; i++) {
+                LoadConnection worker = new LoadConnection(server.accept());
+                connections.add(worker);
+                worker.setTimeout(ACCEPT_TIMEOUT_MILLIS);
+                names.add(worker.receive(LoadMessage.HELLO).worker);
+                System.out.println("Worker " + names.get(i) + " joined");
+            }
+
+            long shardSize = (long) users * iterations;
+            for (int i = 0; i < workers; i++) {
+                LoadMessage shard = LoadMessage.of(LoadMessage.SHARD);
+                shard.firstSeed = firstSeed + i * shardSize;
+                shard.users = users;
+                shard.iterations = iterations;
+                connections.get(i).send(shard);
+            }
+            for (LoadConnection worker : connections) {
+                worker.receive(LoadMessage.READY);
+            }
+            for (LoadConnection worker : connections) {
+                worker.send(LoadMessage.of(LoadMessage.START));
+            }
+
+            Histogram latency = new Histogram(3);
+            long errors = 0;
+            long elapsedNanos = 0;
+            long deadline = System.nanoTime() + resultTimeout.toNanos();
+            List<String> missing = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                LoadMessage result;
+                try {
+                    connections.get(i).setTimeout(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+                    result = connections.get(i).receive(LoadMessage.RESULT);
+                } catch (SocketTimeoutException e) {
+                    missing.add(names.get(i) + " (timed out)");
+                    continue;
+                } catch (IOException e) {
+                    missing.add(names.get(i) + " (" + e.getMessage() + ")");
+                    continue;
+                }
+                latency.add(LoadMessage.decode(result.latency));
+                errors += result.errors;
+                elapsedNanos = Math.max(elapsedNanos, result.elapsedNanos);
+                result.operations.forEach((name, operation) ->
+                        metrics.get(name).add(LoadMessage.decode(operation.latency), operation.errors));
+            }
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("No result within " + resultTimeout + " from workers " + missing);
+            }
+            return new ScenarioReport("lifecycle x" + workers, workers * users, latency, errors, elapsedNanos);
+        } catch (SocketTimeoutException e) {
+            throw new IllegalStateException("Handshake timed out, " + names.size() + " of " + workers
+                    + " workers joined: " + names, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Load run failed", e);
+        } finally {
+            for (LoadConnection worker : connections) {
+                try {
+                    worker.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+}
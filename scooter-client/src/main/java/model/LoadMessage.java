@@ -0,0 +1,70 @@
+package model;
+
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+
+/**
+ * One line of the coordinator/worker protocol, sent as JSON. Workers say {@code hello}, receive a {@code shard},
+ * answer {@code ready}, wait for {@code start} and report a {@code result} with compressed HDR histograms.
+ */
+public class LoadMessage {
+
+    public static final String HELLO = "hello", SHARD = "shard", READY = "ready", START = "start", RESULT = "result";
+
+    String type;
+    String worker;
+    long firstSeed;
+    int users;
+    int iterations;
+    String latency;
+    long errors;
+    long elapsedNanos;
+    Map<String, Operation> operations;
+
+    static LoadMessage of(String type) {
+        LoadMessage message = new LoadMessage();
+        message.type = type;
+        return message;
+    }
+
+    static LoadMessage result(ScenarioReport report, Metrics metrics) {
+        LoadMessage message = of(RESULT);
+        message.latency = encode(report.getLatency());
+        message.errors = report.getErrors();
+        message.elapsedNanos = report.getElapsedNanos();
+        message.operations = new HashMap<>();
+        metrics.getOperations().forEach((name, stats) ->
+                message.operations.put(name, new Operation(encode(stats.getLatency()), stats.getErrors())));
+        return message;
+    }
+
+    static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    static Histogram decode(String encoded) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(encoded)), 0);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupted histogram", e);
+        }
+    }
+
+    static class Operation {
+        String latency;
+        long errors;
+
+        Operation(String latency, long errors) {
+            this.latency = latency;
+            this.errors = errors;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load worker process: connects to a {@link LoadCoordinator}, runs {@link LifecycleScenario} over the
+ * seed range it was given and sends back its histograms.
+ * <pre>
+ * java -cp ... -Dscooter.baseUrl=http://staging:8080 model.LoadWorker coordinator-host 7070
+ * </pre>
+ */
+public class LoadWorker {
+
+    public static void main(String[] args) {
+        new LoadWorker().run(args[0], Integer.parseInt(args[1]));
+    }
+
+    public void run(String host, int port) {
+        try (LoadConnection coordinator = new LoadConnection(new Socket(host, port))) {
+            LoadMessage hello = LoadMessage.of(LoadMessage.HELLO);
+            hello.worker = InetAddress.getLocalHost().getHostName() + "-" + ProcessHandle.current().pid();
+            coordinator.send(hello);
+
+            LoadMessage shard = coordinator.receive(LoadMessage.SHARD);
+            LifecycleScenario scenario = new LifecycleScenario();
+            AtomicLong seeds = new AtomicLong(shard.firstSeed);
+            coordinator.send(LoadMessage.of(LoadMessage.READY));
+
+            coordinator.receive(LoadMessage.START);
+            ScenarioReport report = new ScenarioRunner().run("lifecycle", shard.users, shard.iterations,
+                    () -> scenario.run(seeds.getAndIncrement()));
+            coordinator.send(LoadMessage.result(report, Metrics.getInstance()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lost connection to coordinator " + host + ":" + port, e);
+        }
+    }
+}
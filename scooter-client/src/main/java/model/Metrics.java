@@ -0,0 +1,56 @@
+package model;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-operation statistics of the current JVM. Client calls are recorded as {@code OrderClient.create},
+ * {@code CourierClient.login} and so on; a response with status 5xx or 429 or a failed call counts as an error.
+ * Separate instances are used to merge the metrics of several load workers.
+ */
+public class Metrics {
+
+    private static final Metrics INSTANCE = new Metrics();
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    public static Metrics getInstance() {
+        return INSTANCE;
+    }
+
+    public void record(String operation, long nanos, boolean error) {
+        get(operation).record(nanos, error);
+    }
+
+    public OperationStats get(String operation) {
+        return operations.computeIfAbsent(operation, key -> new OperationStats());
+    }
+
+    /**
+     * Stats of an operation without registering it: an operation that was never recorded gets empty stats.
+     */
+    public OperationStats find(String operation) {
+        OperationStats stats = operations.get(operation);
+        return stats == null ? new OperationStats() : stats;
+    }
+
+    public Map<String, OperationStats> getOperations() {
+        return new TreeMap<>(operations);
+    }
+
+    public void clear() {
+        operations.clear();
+    }
+
+    public String report() {
+        StringBuilder report = new StringBuilder(String.format("%-40s %9s %8s %9s %9s %9s %9s%n",
+                "operation", "calls", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        getOperations().forEach((operation, stats) -> report.append(String.format(
+                "%-40s %9d %8d %9.1f %9.1f %9.1f %9.1f%n",
+                operation, stats.getCount(), stats.getErrors(),
+                stats.percentileMillis(50), stats.percentileMillis(90), stats.percentileMillis(99),
+                stats.getLatency().getMaxValue() / 1000.0)));
+        return report.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package model;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streaming latency histogram (microseconds) and error counter of one operation.
+ */
+public class OperationStats {
+
+    private final Histogram latency = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+
+    public void record(long nanos, boolean error) {
+        latency.recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Adds samples collected elsewhere, e.g. by another load worker.
+     */
+    public void add(Histogram latency, long errors) {
+        this.latency.add(latency);
+        this.errors.add(errors);
+    }
+
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    public long getCount() {
+        return latency.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public double getErrorRate() {
+        long count = getCount();
+        return count == 0 ? 0 : getErrors() / (double) count;
+    }
+
+    public double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
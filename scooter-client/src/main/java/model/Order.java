@@ -0,0 +1,107 @@
+package model;
+
+import java.util.List;
+
+public class Order {
+    private final String firstName;
+    private final String lastName;
+    private final String address;
+    private final Integer metroStation;
+    private final String phone;
+    private final Integer rentTime;
+    private final String deliveryDate;
+    private final String comment;
+    private final List<String> color;
+
+    public Order(String firstName,
+                 String lastName,
+                 String address,
+                 Integer metroStation,
+                 String phone,
+                 Integer rentTime,
+                 String deliveryDate,
+                 String comment,
+                 List<String> color) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.address = address;
+        this.metroStation = metroStation;
+        this.phone = phone;
+        this.rentTime = rentTime;
+        this.deliveryDate = deliveryDate;
+        this.comment = comment;
+        this.color = color == null ? null : List.copyOf(color);
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public Order withFirstName(String firstName) {
+        return new Order(firstName, lastName, address, metroStation, phone, rentTime, deliveryDate, comment, color);
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public Order withLastName(String lastName) {
+        return new Order(firstName, lastName, address, metroStation, phone, rentTime, deliveryDate, comment, color);
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public Order withAddress(String address) {
+        return new Order(firstName, lastName, address, metroStation, phone, rentTime, deliveryDate, comment, color);
+    }
+
+    public Integer getMetroStation() {
+        return metroStation;
+    }
+
+    public Order withMetroStation(Integer metroStation) {
+        return new Order(firstName, lastName, address, metroStation, phone, rentTime, deliveryDate, comment, color);
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public Order withPhone(String phone) {
+        return new Order(firstName, lastName, address, metroStation, phone, rentTime, deliveryDate, comment, color);
+    }
+
+    public Integer getRentTime() {
+        return rentTime;
+    }
+
+    public Order withRentTime(Integer rentTime) {
+        return new Order(firstName, lastName, address, metroStation, phone, rentTime, deliveryDate, comment, color);
+    }
+
+    public String getDeliveryDate() {
+        return deliveryDate;
+    }
+
+    public Order withDeliveryDate(String deliveryDate) {
+        return new Order(firstName, lastName, address, metroStation, phone, rentTime, deliveryDate, comment, color);
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public Order withComment(String comment) {
+        return new Order(firstName, lastName, address, metroStation, phone, rentTime, deliveryDate, comment, color);
+    }
+
+    public List<String> getColor() {
+        return color;
+    }
+
+    public Order withColor(List<String> color) {
+        return new Order(firstName, lastName, address, metroStation, phone, rentTime, deliveryDate, comment, color);
+    }
+}
@@ -6,23 +6,30 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static io.restassured.RestAssured.*;
-
+/**
+ * Stateless and thread-safe: one instance serves all concurrent callers.
+ */
 public class OrderClient extends RestClient {
 
-    private final String ORDERS_PATH = "/api/v1/orders",
-                         TRACK_PATH = "/api/v1/orders/track";
+    private static final OrderClient INSTANCE = new OrderClient();
+    private static final String ORDERS_PATH = "/api/v1/orders",
+                                TRACK_PATH = "/api/v1/orders/track";
+
+    private OrderClient() {
+    }
+
+    public static OrderClient getInstance() {
+        return INSTANCE;
+    }
 
     public Response create(Order order) {
-        return given()
-                .spec(getBaseSpec())
+        return request("create")
                 .body(order)
                 .post(ORDERS_PATH);
     }
 
     public Response track(Integer track) {
-        return given()
-                .spec(getBaseSpec())
+        return request("track")
                 .queryParam("t", track)
                 .get(TRACK_PATH);
     }
@@ -31,42 +38,36 @@ public class OrderClient extends RestClient {
         Map<String, Integer> body = new HashMap<>();
         body.put("track", track);
 
-        given()
-                .spec(getBaseSpec())
+        request("cancel")
                 .body(body)
                 .put(ORDERS_PATH);
     }
 
     public Response getOrders() {
-        return given()
-                .spec(getBaseSpec())
+        return request("getOrders")
                 .get(ORDERS_PATH);
     }
 
     public Response getOrdersByCourierId(Integer id) {
-        return given()
-                .spec(getBaseSpec())
+        return request("getOrdersByCourierId")
                 .queryParam("courierId", id)
                 .get(ORDERS_PATH);
     }
 
     public Response getOrdersByNearestStation(Map<String, List<String>> nearestStation) {
-        return given()
-                .spec(getBaseSpec())
+        return request("getOrdersByNearestStation")
                 .queryParams(nearestStation)
                 .get(ORDERS_PATH);
     }
 
     public Response getOrdersWithLimit(Integer limit) {
-        return given()
-                .spec(getBaseSpec())
+        return request("getOrdersWithLimit")
                 .queryParam("limit", limit)
                 .get(ORDERS_PATH);
     }
 
     public Response getOrdersByPage(int page) {
-        return given()
-                .spec(getBaseSpec())
+        return request("getOrdersByPage")
                 .queryParam("page", page)
                 .get(ORDERS_PATH);
     }
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class OrderGenerator {
+    private static final int METRO_STATIONS = 200;
+
     public static Order getOrder() {
         List<String> color = new ArrayList<>();
         return new Order(
@@ -17,4 +19,13 @@ public class OrderGenerator {
                 "Saske, come back to Konoha",
                 color);
     }
+
+    /**
+     * Order derived from the seed: the same seed always gives the same metro station and comment.
+     */
+    public static Order getOrder(long seed) {
+        return getOrder()
+                .withMetroStation(1 + (int) Math.floorMod(seed, (long) METRO_STATIONS))
+                .withComment("Load order " + seed);
+    }
 }
@@ -0,0 +1,51 @@
+package model;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free limit of events per fixed one-second window. The upper bits of a single counter hold the second,
+ * the lower 24 bits the events counted in it, so the limit must stay below {@value #MAX_LIMIT}.
+ */
+public class RateLimiter {
+
+    public static final long MAX_LIMIT = 1 << 24;
+    private static final long COUNT_MASK = MAX_LIMIT - 1;
+
+    private final long maxRate;
+    private final AtomicLong window = new AtomicLong();
+
+    /**
+     * @param maxRate events per second, 0 or less means unlimited
+     */
+    public RateLimiter(long maxRate) {
+        if (maxRate >= MAX_LIMIT) {
+            throw new IllegalArgumentException("Rate limit must be below " + MAX_LIMIT + " per second: " + maxRate);
+        }
+        this.maxRate = maxRate;
+    }
+
+    public boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    /**
+     * @param nanoTime current time as given by {@link System#nanoTime()}
+     */
+    public boolean tryAcquire(long nanoTime) {
+        if (maxRate <= 0) {
+            return true;
+        }
+        long second = Math.floorDiv(nanoTime, TimeUnit.SECONDS.toNanos(1));
+        while (true) {
+            long current = window.get();
+            long next = current >> 24 == second ? current + 1 : second << 24 | 1;
+            if ((next & COUNT_MASK) > maxRate) {
+                return false;
+            }
+            if (window.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
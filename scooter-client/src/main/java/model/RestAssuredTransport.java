@@ -0,0 +1,35 @@
+package model;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Default transport: REST Assured over its Apache HTTP/1.1 client, one connection per in-flight request.
+ */
+public class RestAssuredTransport implements Transport {
+
+    private final RequestSpecification baseSpec;
+
+    /**
+     * @param baseSpec shared spec, only merged into each request and never modified
+     */
+    public RestAssuredTransport(RequestSpecification baseSpec) {
+        this.baseSpec = baseSpec;
+    }
+
+    @Override
+    public Response send(String method, String path, Map<String, ?> queryParams, Object body) {
+        RequestSpecification request = given().spec(baseSpec);
+        if (!queryParams.isEmpty()) {
+            request.queryParams(queryParams);
+        }
+        if (body != null) {
+            request.body(body);
+        }
+        return request.request(method, path);
+    }
+}
@@ -0,0 +1,68 @@
+package model;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+
+import java.net.http.HttpClient;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Base of the API clients. Configured with system properties:
+ * <ul>
+ *     <li>{@code scooter.baseUrl} - API host, e.g. a local stand-in server;</li>
+ *     <li>{@code scooter.transport} - {@code rest-assured} (default, HTTP/1.1),
+ *     {@code http2} (java.net.http, HTTP/2 with h2c and fallback to HTTP/1.1) or {@code http1};</li>
+ *     <li>{@code scooter.chaos} - fault profile; requests then go through an in-process {@link FaultProxy}.</li>
+ * </ul>
+ * The base spec is built once and never modified, so clients hold no mutable state and are thread-safe.
+ * It is only built when first needed: with the {@code http2}/{@code http1} transports a process never
+ * initialises REST Assured and Groovy unless a response is used through REST Assured, see {@link LazyResponse}.
+ */
+public class RestClient {
+
+    private static final String UPSTREAM_URL = System.getProperty("scooter.baseUrl", "http://qa-scooter.praktikum-services.ru");
+    private static final FaultProxy FAULT_PROXY = FaultProxy.fromSystemProperties(UPSTREAM_URL);
+    private static final String BASE_URL = FAULT_PROXY == null ? UPSTREAM_URL : FAULT_PROXY.getUrl();
+    private static final Transport TRANSPORT = createTransport(System.getProperty("scooter.transport", "rest-assured"));
+
+    private final String name = getClass().getSimpleName();
+
+    /**
+     * Proxy all clients go through when {@code scooter.chaos} is set, otherwise {@code null}.
+     */
+    public static FaultProxy getFaultProxy() {
+        return FAULT_PROXY;
+    }
+
+    public RequestSpecification getBaseSpec() {
+        return given().spec(BaseSpec.INSTANCE);
+    }
+
+    /**
+     * @param operation method name of the client, recorded as e.g. {@code OrderClient.create}
+     */
+    protected ApiRequest request(String operation) {
+        return new ApiRequest(TRANSPORT, name + "." + operation);
+    }
+
+    private static Transport createTransport(String name) {
+        switch (name) {
+            case "rest-assured":
+                return new RestAssuredTransport(BaseSpec.INSTANCE);
+            case "http2":
+                return new HttpClientTransport(BASE_URL, HttpClient.Version.HTTP_2);
+            case "http1":
+                return new HttpClientTransport(BASE_URL, HttpClient.Version.HTTP_1_1);
+            default:
+                throw new IllegalArgumentException("Unknown scooter.transport: " + name);
+        }
+    }
+
+    private static class BaseSpec {
+        private static final RequestSpecification INSTANCE = new RequestSpecBuilder()
+                .setBaseUri(BASE_URL)
+                .addHeader("Content-type", "application/json")
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package model;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of one {@link ScenarioRunner} run. Latencies are kept in microseconds.
+ */
+public class ScenarioReport {
+
+    private final String name;
+    private final int concurrency;
+    private final Histogram latency;
+    private final long errors;
+    private final long elapsedNanos;
+
+    public ScenarioReport(String name, int concurrency, Histogram latency, long errors, long elapsedNanos) {
+        this.name = name;
+        this.concurrency = concurrency;
+        this.latency = latency;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public static String header() {
+        return String.format("%-28s %8s %10s %8s %10s %9s %9s %9s %9s",
+                "scenario", "users", "runs", "errors", "runs/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    public long getRuns() {
+        return latency.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : getRuns() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-28s %8d %10d %8d %10.1f %9.1f %9.1f %9.1f %9.1f",
+                name, concurrency, getRuns(), errors, getThroughput(),
+                percentileMillis(50), percentileMillis(90), percentileMillis(99),
+                latency.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,60 @@
+package model;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs a blocking scenario as {@code concurrency} simultaneous users, each repeating it
+ * {@code iterations} times. Users are released together and every iteration is timed,
+ * a thrown exception counts as an error.
+ */
+public class ScenarioRunner {
+
+    public ScenarioReport run(String name, int concurrency, int iterations, Runnable scenario) {
+        Histogram latency = new ConcurrentHistogram(3);
+        LongAdder errors = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = VirtualThreads.newExecutor();
+        try {
+            List<Future<?>> users = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                users.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < iterations; j++) {
+                        long begin = System.nanoTime();
+                        try {
+                            scenario.run();
+                        } catch (Throwable e) {
+                            errors.increment();
+                        }
+                        latency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin));
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> user : users) {
+                user.get();
+            }
+            return new ScenarioReport(name, concurrency, latency, errors.sum(), System.nanoTime() - begin);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Scenario " + name + " was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Scenario " + name + " failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Latency or error-rate budget of one operation, for example
+ * {@code OrderClient.create p99 < 300ms over 1000} or {@code CourierClient.login errors < 0.1%}.
+ * A budget is only judged once the operation has at least {@code over} samples.
+ */
+public class Slo {
+
+    public enum Status { MET, BROKEN, NOT_ENOUGH_SAMPLES }
+
+    private static final Pattern LATENCY = Pattern.compile(
+            "(\\S+)\\s+p(\\d+(?:\\.\\d+)?)\\s*<\\s*(\\d+(?:\\.\\d+)?)\\s*(us|ms|s)(?:\\s+over\\s+(\\d+))?");
+    private static final Pattern ERROR_RATE = Pattern.compile(
+            "(\\S+)\\s+errors\\s*<\\s*(\\d+(?:\\.\\d+)?)\\s*%(?:\\s+over\\s+(\\d+))?");
+
+    private final String operation;
+    private final double percentile;
+    private final double limit;
+    private final long minSamples;
+
+    private Slo(String operation, double percentile, double limit, long minSamples) {
+        this.operation = operation;
+        this.percentile = percentile;
+        this.limit = limit;
+        this.minSamples = minSamples;
+    }
+
+    public static Slo latency(String operation, double percentile, long limit, TimeUnit unit, long minSamples) {
+        return new Slo(operation, percentile, unit.toMicros(limit) / 1000.0, minSamples);
+    }
+
+    public static Slo errorRate(String operation, double maxRate, long minSamples) {
+        return new Slo(operation, Double.NaN, maxRate, minSamples);
+    }
+
+    public static Slo parse(String spec) {
+        Matcher latency = LATENCY.matcher(spec.trim());
+        if (latency.matches()) {
+            double millis = Double.parseDouble(latency.group(3)) * millisPerUnit(latency.group(4));
+            return new Slo(latency.group(1), Double.parseDouble(latency.group(2)), millis, samples(latency.group(5)));
+        }
+        Matcher errorRate = ERROR_RATE.matcher(spec.trim());
+        if (errorRate.matches()) {
+            return errorRate(errorRate.group(1), Double.parseDouble(errorRate.group(2)) / 100, samples(errorRate.group(3)));
+        }
+        throw new IllegalArgumentException("Cannot parse SLO: " + spec);
+    }
+
+    /**
+     * Parses budgets separated by {@code ;}, blank entries are ignored.
+     */
+    public static List<Slo> parseAll(String specs) {
+        List<Slo> slos = new ArrayList<>();
+        for (String spec : specs.split(";")) {
+            if (!spec.isBlank()) {
+                slos.add(parse(spec));
+            }
+        }
+        return slos;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public boolean isLatency() {
+        return !Double.isNaN(percentile);
+    }
+
+    public Status evaluate(OperationStats stats) {
+        if (stats.getCount() < minSamples || stats.getCount() == 0) {
+            return Status.NOT_ENOUGH_SAMPLES;
+        }
+        return actual(stats) < limit ? Status.MET : Status.BROKEN;
+    }
+
+    public String describe(OperationStats stats) {
+        String actual = isLatency()
+                ? String.format(Locale.ROOT, "%.1f ms", actual(stats))
+                : String.format(Locale.ROOT, "%.3f%%", actual(stats) * 100);
+        return String.format(Locale.ROOT, "%-52s %12s over %d calls: %s",
+                this, actual, stats.getCount(), evaluate(stats));
+    }
+
+    @Override
+    public String toString() {
+        String budget = isLatency()
+                ? String.format(Locale.ROOT, "p%s < %.1f ms", trim(percentile), limit)
+                : String.format(Locale.ROOT, "errors < %s%%", trim(limit * 100));
+        return operation + " " + budget + (minSamples > 0 ? " over " + minSamples : "");
+    }
+
+    private double actual(OperationStats stats) {
+        return isLatency() ? stats.percentileMillis(percentile) : stats.getErrorRate();
+    }
+
+    private static double millisPerUnit(String unit) {
+        switch (unit) {
+            case "us":
+                return 0.001;
+            case "s":
+                return 1000;
+            default:
+                return 1;
+        }
+    }
+
+    private static long samples(String over) {
+        return over == null ? 0 : Long.parseLong(over);
+    }
+
+    private static String trim(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
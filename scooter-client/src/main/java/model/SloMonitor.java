@@ -0,0 +1,60 @@
+package model;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Checks {@link Slo} budgets against the live {@link Metrics} histograms. Can be called at any point
+ * of a run; {@link #verify()} fails with the latency report once a budget is broken, and at the end of
+ * a run also for budgets that never got enough samples, such as a misspelt operation name.
+ */
+public class SloMonitor {
+
+    private final Metrics metrics;
+    private final List<Slo> slos;
+
+    public SloMonitor(Metrics metrics, List<Slo> slos) {
+        this.metrics = metrics;
+        this.slos = List.copyOf(slos);
+    }
+
+    public static SloMonitor of(String specs) {
+        return new SloMonitor(Metrics.getInstance(), Slo.parseAll(specs));
+    }
+
+    public boolean isMet() {
+        return slos.stream().noneMatch(slo -> evaluate(slo) == Slo.Status.BROKEN);
+    }
+
+    /**
+     * Budgets that cannot be judged yet because their operation has too few samples.
+     */
+    public List<Slo> getUnjudged() {
+        return slos.stream()
+                .filter(slo -> evaluate(slo) == Slo.Status.NOT_ENOUGH_SAMPLES)
+                .collect(Collectors.toList());
+    }
+
+    public String report() {
+        StringBuilder report = new StringBuilder(metrics.report());
+        for (Slo slo : slos) {
+            report.append(slo.describe(metrics.find(slo.getOperation()))).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    public void verify() {
+        if (!isMet()) {
+            throw new AssertionError("Latency budget broken" + System.lineSeparator() + report());
+        }
+        List<Slo> unjudged = getUnjudged();
+        if (!unjudged.isEmpty()) {
+            throw new AssertionError("Latency budget never judged, check operation names and sample counts: "
+                    + unjudged + System.lineSeparator() + report());
+        }
+    }
+
+    private Slo.Status evaluate(Slo slo) {
+        return slo.evaluate(metrics.find(slo.getOperation()));
+    }
+}
@@ -0,0 +1,27 @@
+package model;
+
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Measures how long after JVM start the first {@code OrderClient.create} completes. Used to check the lean startup
+ * path ({@code -Dscooter.transport=http2}, no javaagent) and to record the AppCDS archive of the {@code appcds} profile.
+ */
+public class StartupProbe {
+
+    public static void main(String[] args) {
+        Response response = OrderClient.getInstance().create(OrderGenerator.getOrder());
+        Duration sinceStart = ProcessHandle.current().info().startInstant()
+                .map(start -> Duration.between(start, Instant.now()))
+                .orElse(Duration.ZERO);
+        System.out.println("First OrderClient.create returned " + response.statusCode()
+                + " after " + sinceStart.toMillis() + " ms since JVM start");
+
+        Integer track = response.statusCode() < 300 ? JsonBody.getInt(response, "track") : null;
+        if (track != null) {
+            OrderClient.getInstance().cancel(track);
+        }
+    }
+}
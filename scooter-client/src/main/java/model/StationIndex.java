@@ -0,0 +1,47 @@
+package model;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Items placed at metro stations, looked up by nearest station. The API gives stations only as numbers,
+ * so the distance between two stations is the difference of their numbers. Safe for concurrent use.
+ */
+public class StationIndex<T> {
+
+    private final ConcurrentNavigableMap<Integer, Deque<T>> stations = new ConcurrentSkipListMap<>();
+
+    public void add(int station, T item) {
+        stations.computeIfAbsent(station, key -> new ConcurrentLinkedDeque<>()).addLast(item);
+    }
+
+    /**
+     * Removes and returns an item from the station nearest to {@code station}, or {@code null} if the index is empty.
+     */
+    public T pollNearest(int station) {
+        Map.Entry<Integer, Deque<T>> above = stations.ceilingEntry(station);
+        Map.Entry<Integer, Deque<T>> below = stations.lowerEntry(station);
+        while (above != null || below != null) {
+            boolean takeAbove = below == null
+                    || above != null && above.getKey() - station <= station - below.getKey();
+            Map.Entry<Integer, Deque<T>> nearest = takeAbove ? above : below;
+            T item = nearest.getValue().pollFirst();
+            if (item != null) {
+                return item;
+            }
+            if (takeAbove) {
+                above = stations.higherEntry(above.getKey());
+            } else {
+                below = stations.lowerEntry(below.getKey());
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return stations.values().stream().mapToInt(Deque::size).sum();
+    }
+}
@@ -0,0 +1,33 @@
+package model;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.Step;
+
+public class StepProvider {
+
+    private static final boolean ASYNC = Boolean.getBoolean("allure.steps.async");
+
+    public static void step(String message) {
+        if (ASYNC) {
+            StepRecorder.getInstance().step(message);
+        } else {
+            allureStep(message);
+        }
+    }
+
+    public static void attach(String name, String content) {
+        if (ASYNC) {
+            StepRecorder.getInstance().attach(name, content);
+        } else {
+            Allure.addAttachment(name, content);
+        }
+    }
+
+    static boolean isAsync() {
+        return ASYNC;
+    }
+
+    @Step("{0}")
+    private static void allureStep(String message){
+    }
+}
@@ -0,0 +1,177 @@
+package model;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.Stage;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous replacement for the woven Allure {@code @Step}, enabled with {@code -Dallure.steps.async=true}.
+ * Steps and attachments are put into a lock-free ring buffer together with the uuid of the current Allure
+ * test case. A background thread drains them in batches, writes attachment files and collects the steps per
+ * test; {@link AsyncStepListener} merges them into the test result right before Allure writes it, so they
+ * show up in the report like synchronous steps.
+ * <p>
+ * Above {@code allure.steps.maxRate} events per second, when the buffer is full, or when recorded outside
+ * of a test, events are dropped and counted instead of slowing the calling thread down.
+ */
+public class StepRecorder {
+
+    private static final int CAPACITY = Integer.getInteger("allure.steps.bufferSize", 65536);
+    private static final int BATCH_SIZE = Integer.getInteger("allure.steps.batchSize", 4096);
+    private static final long FLUSH_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("allure.steps.flushMillis", 200));
+    private static final long MERGE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final MpscRingBuffer<StepEvent> buffer = new MpscRingBuffer<>(CAPACITY);
+    private final RateLimiter rate = new RateLimiter(Long.getLong("allure.steps.maxRate", 0));
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Map<String, TestSteps> tests = new ConcurrentHashMap<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private StepRecorder() {
+        this.writer = new Thread(this::writeLoop, "allure-step-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "allure-step-writer-shutdown"));
+    }
+
+    public static StepRecorder getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public void step(String name) {
+        record(new StepEvent(name, null));
+    }
+
+    public void attach(String name, String content) {
+        record(new StepEvent(name, content));
+    }
+
+    /**
+     * Waits until everything recorded so far is processed and moves the steps and attachments
+     * of {@code result} into it.
+     */
+    public void mergeInto(TestResult result) {
+        long target = accepted.get();
+        long deadline = System.nanoTime() + MERGE_TIMEOUT_NANOS;
+        LockSupport.unpark(writer);
+        while (processed.get() < target && writer.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        TestSteps steps = tests.remove(result.getUuid());
+        if (steps != null) {
+            synchronized (steps) {
+                result.getSteps().addAll(steps.steps);
+                result.getAttachments().addAll(steps.attachments);
+            }
+        }
+    }
+
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.get() > 0) {
+            System.err.println("Allure step recorder dropped " + dropped.get() + " events");
+        }
+    }
+
+    private void record(StepEvent event) {
+        if (event.testCase == null || !running || !rate.tryAcquire() || !buffer.offer(event)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        accepted.incrementAndGet();
+    }
+
+    private void writeLoop() {
+        List<StepEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || buffer.size() > 0) {
+            buffer.drain(batch::add, BATCH_SIZE);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(FLUSH_NANOS);
+                continue;
+            }
+            for (StepEvent event : batch) {
+                try {
+                    write(event);
+                } catch (RuntimeException e) {
+                    dropped.incrementAndGet();
+                    System.err.println("Allure step recorder cannot write " + event.name + ": " + e);
+                }
+                processed.incrementAndGet();
+            }
+            batch.clear();
+            if (buffer.size() < BATCH_SIZE) {
+                LockSupport.parkNanos(FLUSH_NANOS);
+            }
+        }
+    }
+
+    private void write(StepEvent event) {
+        TestSteps steps = tests.computeIfAbsent(event.testCase, key -> new TestSteps());
+        if (event.content == null) {
+            StepResult step = new StepResult()
+                    .setName(event.name)
+                    .setStatus(Status.PASSED)
+                    .setStage(Stage.FINISHED)
+                    .setStart(event.timestamp)
+                    .setStop(event.timestamp);
+            synchronized (steps) {
+                steps.steps.add(step);
+            }
+            return;
+        }
+        String source = UUID.randomUUID() + "-attachment.txt";
+        Allure.getLifecycle().writeAttachment(source,
+                new ByteArrayInputStream(event.content.getBytes(StandardCharsets.UTF_8)));
+        Attachment attachment = new Attachment().setName(event.name).setSource(source).setType("text/plain");
+        synchronized (steps) {
+            steps.attachments.add(attachment);
+        }
+    }
+
+    private static class Holder {
+        private static final StepRecorder INSTANCE = new StepRecorder();
+    }
+
+    private static class TestSteps {
+        private final List<StepResult> steps = new ArrayList<>();
+        private final List<Attachment> attachments = new ArrayList<>();
+    }
+
+    private static class StepEvent {
+        private final String name;
+        private final String content;
+        private final String testCase = Allure.getLifecycle().getCurrentTestCase().orElse(null);
+        private final long timestamp = System.currentTimeMillis();
+
+        private StepEvent(String name, String content) {
+            this.name = name;
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package model;
+
+import io.restassured.response.Response;
+
+import java.util.Map;
+
+/**
+ * Sends one API request. Selected once per JVM with {@code -Dscooter.transport}, see {@link RestClient}.
+ */
+public interface Transport {
+
+    Response send(String method, String path, Map<String, ?> queryParams, Object body);
+}
@@ -0,0 +1,39 @@
+package model;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors for scenario users. On Java 21+ every task gets its own virtual thread, so the blocking
+ * {@link OrderClient}/{@link CourierClient} calls can run thousands at a time. The project still
+ * compiles for Java 11, so the factory is looked up reflectively and older runtimes fall back to
+ * one platform thread per task.
+ */
+public class VirtualThreads {
+
+    private static final Method NEW_VIRTUAL_EXECUTOR = lookupVirtualExecutor();
+
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_EXECUTOR != null;
+    }
+
+    public static ExecutorService newExecutor() {
+        if (NEW_VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Virtual thread executor is not available", e);
+            }
+        }
+        return Executors.newCachedThreadPool();
+    }
+
+    private static Method lookupVirtualExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
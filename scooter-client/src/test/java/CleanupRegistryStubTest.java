@@ -0,0 +1,112 @@
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import model.CleanupRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static model.StepProvider.step;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class CleanupRegistryStubTest {
+
+    private static final int THREADS = 8, IDS = 200;
+
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private final CleanupRegistry cleanup = CleanupRegistry.getInstance();
+    private ApiStub api;
+
+    @Before
+    public void setUp() throws IOException {
+        api = new ApiStub(exchange -> {
+            String body = ApiStub.body(exchange);
+            String key = exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath()
+                    + (body.isEmpty() ? "" : " " + body);
+            requests.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            ApiStub.respond(exchange, 200, "{\"ok\":true}");
+        });
+    }
+
+    @After
+    public void tearDown() {
+        if (api != null) {
+            api.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Параллельная регистрация и очистка тестовых данных")
+    @Description("Потоки регистрируют одни и те же id и вместе очищают реестр: каждый курьер и заказ удаляется ровно один раз.")
+    public void concurrentCleanupRemovesEveryIdOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        step("Зарегистрировать курьеров и заказы из " + THREADS + " потоков");
+        runConcurrently(executor, () -> {
+            for (int id = 1; id <= IDS; id++) {
+                cleanup.addCourier(id);
+                cleanup.addOrder(id);
+            }
+        });
+        assertEquals(2 * IDS, cleanup.size());
+
+        step("Очистить реестр из " + THREADS + " потоков");
+        runConcurrently(executor, cleanup::cleanUp);
+        executor.shutdown();
+
+        step("Проверить что каждый id удалён один раз");
+        assertEquals(0, cleanup.size());
+        for (int id = 1; id <= IDS; id++) {
+            assertEquals("Courier " + id + " must be deleted once", 1, count("DELETE /api/v1/courier/" + id));
+        }
+        long cancels = requests.entrySet().stream()
+                .filter(request -> request.getKey().startsWith("PUT "))
+                .mapToInt(request -> request.getValue().get())
+                .sum();
+        assertEquals("Every order must be cancelled once", IDS, cancels);
+        assertEquals("Cancel requests must be distinct", IDS, requests.keySet().stream()
+                .filter(request -> request.startsWith("PUT ")).count());
+    }
+
+    @Test
+    @DisplayName("Пустой id не регистрируется")
+    @Description("null вместо id курьера или трека заказа отклоняется сразу при регистрации.")
+    public void nullIdsAreRejected() {
+        step("Зарегистрировать null");
+        assertThrows(NullPointerException.class, () -> cleanup.addCourier(null));
+        assertThrows(NullPointerException.class, () -> cleanup.addOrder(null));
+        assertEquals(0, cleanup.size());
+    }
+
+    private int count(String request) {
+        AtomicInteger count = requests.get(request);
+        return count == null ? 0 : count.get();
+    }
+
+    private static void runConcurrently(ExecutorService executor, Runnable task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
@@ -14,23 +14,20 @@ import static org.junit.Assert.assertNotNull;
 
 public class CourierAuthorizationTest {
 
-    private static Courier courier;
-    private static CourierClient courierClient;
-    private static Integer id;
+    private static final CourierClient courierClient = CourierClient.getInstance();
+    private Courier courier;
 
     @BeforeClass
     public static void setUp() {
-        courier = CourierGenerator.getCourier();
-        courierClient = new CourierClient();
-        courierClient.create(courier);
+        courierClient.create(CourierGenerator.getCourier());
     }
 
     @AfterClass
     public static void tearDown() {
-        courierClient.delete(id);
+        courierClient.delete(courierClient.loginId(CourierCredentials.from(CourierGenerator.getCourier())));
     }
 
-    @After
+    @Before
     public void resetCourier() {
         courier = CourierGenerator.getCourier();
     }
@@ -48,7 +45,7 @@ public class CourierAuthorizationTest {
         assertEquals("Status code is not OK", SC_OK, statusCode);
 
         step("Проверить наличие id в ответе");
-        id = response.then().extract().path("id");
+        Integer id = response.then().extract().path("id");
         assertNotNull(id);
     }
 
@@ -57,7 +54,7 @@ public class CourierAuthorizationTest {
     @Description("Попытка авторизоваться без указания логина.")
     public void loginWithoutLoginFieldReturnFault() {
 
-        courier.setLogin(null);
+        courier = courier.withLogin(null);
 
         step("Отправить запрос на логин");
         Response response = courierClient.login(CourierCredentials.from(courier));
@@ -76,7 +73,7 @@ public class CourierAuthorizationTest {
     @Description("Попытка авторизоваться без указания пароля.")
     public void loginWithoutPasswordFieldReturnFault() {
 
-        courier.setPassword(null);
+        courier = courier.withPassword(null);
 
         step("Отправить запрос на логин");
         Response response = courierClient.login(CourierCredentials.from(courier));
@@ -95,7 +92,7 @@ public class CourierAuthorizationTest {
     @Description("Попытка авторизации с неверным логином учетной записи.")
     public void loginWithWrongLoginReturnFault() {
 
-        courier.setLogin("badTractor");
+        courier = courier.withLogin("badTractor");
 
         step("Отправить запрос на логин");
         Response response = courierClient.login(CourierCredentials.from(courier));
@@ -114,7 +111,7 @@ public class CourierAuthorizationTest {
     @Description("Попытка авторизации с неверным паролем учетной записи.")
     public void loginWithWrongPasswordReturnFault() {
 
-        courier.setPassword("1111");
+        courier = courier.withPassword("1111");
 
         step("Отправить запрос на логин");
         Response response = courierClient.login(CourierCredentials.from(courier));
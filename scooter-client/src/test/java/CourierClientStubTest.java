@@ -0,0 +1,107 @@
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import model.CourierClient;
+import model.CourierCredentials;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static model.StepProvider.step;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class CourierClientStubTest {
+
+    private static final int CALLERS = 32;
+
+    private final AtomicInteger logins = new AtomicInteger();
+    private final CourierClient courierClient = CourierClient.getInstance();
+    private ApiStub api;
+
+    @Before
+    public void setUp() throws IOException {
+        api = new ApiStub(exchange -> {
+            String request = ApiStub.body(exchange);
+            if (exchange.getRequestURI().getPath().equals("/api/v1/courier/login")) {
+                logins.incrementAndGet();
+                sleep();
+                if (request.contains("\"password\":\"1234\"")) {
+                    ApiStub.respond(exchange, 200, "{\"id\":7}");
+                } else {
+                    ApiStub.respond(exchange, 404, "{\"message\":\"Учетная запись не найдена\"}");
+                }
+            } else {
+                ApiStub.respond(exchange, 200, "{\"ok\":true}");
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        if (api != null) {
+            courierClient.delete(7);
+            api.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Неверный пароль не берётся из кэша логина")
+    @Description("Кэш id курьера учитывает пароль: запрос с неверным паролем уходит в API и возвращает null.")
+    public void wrongPasswordIsNotServedFromCache() {
+        step("Залогиниться с верным и неверным паролем");
+        assertEquals(Integer.valueOf(7), courierClient.loginId(new CourierCredentials("cacheCourier", "1234")));
+        assertNull("Wrong password must not get the cached id",
+                courierClient.loginId(new CourierCredentials("cacheCourier", "WRONG")));
+
+        step("Проверить число запросов логина");
+        assertEquals(2, logins.get());
+        assertEquals(Integer.valueOf(7), courierClient.loginId(new CourierCredentials("cacheCourier", "1234")));
+        assertEquals("Correct password must be served from cache", 2, logins.get());
+    }
+
+    @Test
+    @DisplayName("Параллельные логины одного курьера отправляют один запрос")
+    @Description("Одновременные вызовы loginId с одинаковыми данными ждут один запрос; delete очищает кэш.")
+    public void concurrentCallersShareOneLogin() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        CourierCredentials credentials = new CourierCredentials("sharedCourier", "1234");
+
+        step("Запросить id курьера из " + CALLERS + " потоков одновременно");
+        List<Future<Integer>> ids = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            ids.add(executor.submit(() -> {
+                start.await();
+                return courierClient.loginId(credentials);
+            }));
+        }
+        start.countDown();
+        for (Future<Integer> id : ids) {
+            assertEquals(Integer.valueOf(7), id.get());
+        }
+        executor.shutdown();
+
+        step("Проверить что логин выполнен один раз и delete сбрасывает кэш");
+        assertEquals(1, logins.get());
+        courierClient.delete(7);
+        courierClient.loginId(credentials);
+        assertEquals("Deleted courier must be logged in again", 2, logins.get());
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -15,14 +15,13 @@ import static org.junit.Assert.*;
 
 public class CourierCreationTest {
 
-    private static Courier courier;
-    private static CourierClient courierClient;
-    private static Integer id;
+    private final CourierClient courierClient = CourierClient.getInstance();
+    private Courier courier;
+    private Integer id;
 
     @Before
     public void setUp() {
         courier = CourierGenerator.getCourier();
-        courierClient = new CourierClient();
     }
 
     @After
@@ -78,7 +77,7 @@ public class CourierCreationTest {
     @Description("Попытка создания курьера без поля login.")
     public void createCourierWithoutLoginReturnBadRequest() {
 
-        courier.setLogin(null);
+        courier = courier.withLogin(null);
 
         step("Отправить запрос на создание курьера");
         Response response = courierClient.create(courier);
@@ -100,7 +99,7 @@ public class CourierCreationTest {
     @Description("Попытка создания курьера без поля password.")
     public void createCourierWithoutPasswordReturnBadRequest() {
 
-        courier.setPassword(null);
+        courier = courier.withPassword(null);
 
         step("Отправить запрос на создание курьера");
         Response response = courierClient.create(courier);
@@ -122,7 +121,7 @@ public class CourierCreationTest {
     @Description("Попытка создания курьера без поля firstname.")
     public void createCourierWithoutFirstNameReturnBadRequest() {
 
-        courier.setFirstName(null);
+        courier = courier.withFirstName(null);
 
         step("Отправить запрос на создание курьера");
         Response response = courierClient.create(courier);
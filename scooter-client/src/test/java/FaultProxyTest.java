@@ -0,0 +1,120 @@
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import model.FaultProfile;
+import model.FaultProxy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static model.StepProvider.step;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FaultProxyTest {
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private HttpServer api;
+    private FaultProxy proxy;
+
+    @Before
+    public void setUp() throws IOException {
+        api = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        api.createContext("/", exchange -> {
+            byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        api.start();
+    }
+
+    @After
+    public void tearDown() {
+        if (proxy != null) {
+            proxy.close();
+        }
+        api.stop(0);
+    }
+
+    @Test
+    @DisplayName("Прокси внедряет ошибки 5xx только на выбранном эндпоинте")
+    @Description("Для /api/v1/orders все ответы подменяются на 503, остальные запросы проходят до API.")
+    public void injectsServerErrorsPerEndpoint() throws Exception {
+        startProxy("/api/v1/orders.error5xx=100%");
+
+        step("Отправить запросы через прокси");
+        assertEquals("Orders must fail", 503, get("/api/v1/orders").statusCode());
+        HttpResponse<String> courier = get("/api/v1/courier/login");
+
+        step("Проверить ответы и счётчики");
+        assertEquals("Other endpoints must reach the API", 200, courier.statusCode());
+        assertEquals("{\"ok\":true}", courier.body());
+        assertEquals(Long.valueOf(1), proxy.getFaults().get("/api/v1/orders error5xx"));
+    }
+
+    @Test
+    @DisplayName("Прокси добавляет задержку и не внедряет сбои после отключения")
+    @Description("Фиксированная задержка применяется к каждому запросу, выключенный прокси пропускает их без изменений.")
+    public void addsLatencyUntilDisabled() throws Exception {
+        startProxy("default.latency=fixed:200ms");
+
+        step("Отправить запрос с задержкой");
+        long begin = System.nanoTime();
+        assertEquals(200, get("/api/v1/orders").statusCode());
+        assertTrue("Latency must be injected", System.nanoTime() - begin >= TimeUnit.MILLISECONDS.toNanos(200));
+
+        step("Отключить сбои и повторить запрос");
+        proxy.setEnabled(false);
+        assertEquals(200, get("/api/v1/orders").statusCode());
+        assertEquals(Long.valueOf(1), proxy.getFaults().get("default latency"));
+    }
+
+    @Test
+    @DisplayName("Прокси обрывает соединение и ограничивает частоту запросов")
+    @Description("Оборванное соединение приводит к IOException у клиента, троттлинг возвращает 429 с Retry-After.")
+    public void dropsConnectionsAndThrottles() throws Exception {
+        startProxy("/api/v1/courier/login.drop=1", "/api/v1/courier.throttle429=1");
+
+        step("Отправить запрос на эндпоинт с обрывом соединения");
+        try {
+            get("/api/v1/courier/login");
+            fail("Connection must be dropped");
+        } catch (IOException expected) {
+            // injected drop
+        }
+
+        step("Отправить запрос на эндпоинт с троттлингом");
+        HttpResponse<String> throttled = get("/api/v1/courier");
+        assertEquals(429, throttled.statusCode());
+        assertFalse("Retry-After must be set", throttled.headers().firstValue("Retry-After").isEmpty());
+    }
+
+    private void startProxy(String... rules) throws IOException {
+        Properties properties = new Properties();
+        for (String rule : rules) {
+            String[] pair = rule.split("=", 2);
+            properties.setProperty(pair[0], pair[1]);
+        }
+        proxy = new FaultProxy(0, "http://localhost:" + api.getAddress().getPort(), FaultProfile.from(properties));
+        proxy.start();
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(proxy.getUrl() + path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
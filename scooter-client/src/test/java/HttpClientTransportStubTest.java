@@ -0,0 +1,136 @@
+import com.sun.net.httpserver.HttpExchange;
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import io.restassured.response.Response;
+import model.BandwidthStats;
+import model.CourierCredentials;
+import model.HttpClientTransport;
+import model.OrderGenerator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static model.StepProvider.step;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs with -Dscooter.compression=true and -Dscooter.compression.requests=true set by the stub-tests execution.
+ */
+public class HttpClientTransportStubTest {
+
+    private static final String PAYLOAD = "{\"orders\":[" + "{\"track\":1,\"firstName\":\"Naruto\"},".repeat(50)
+            + "{\"track\":2}]}";
+
+    private final Map<String, String> requestEncodings = new ConcurrentHashMap<>();
+    private final Map<String, String> requestBodies = new ConcurrentHashMap<>();
+    private ApiStub api;
+    private HttpClientTransport transport;
+
+    @Before
+    public void setUp() throws IOException {
+        api = new ApiStub(this::handle);
+        transport = new HttpClientTransport(System.getProperty("scooter.baseUrl"), HttpClient.Version.HTTP_2);
+    }
+
+    @After
+    public void tearDown() {
+        if (api != null) {
+            api.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Сжатые gzip и deflate ответы распаковываются")
+    @Description("Ответы с Content-Encoding gzip и deflate распаковываются, объём на проводе и после распаковки учитывается отдельно.")
+    public void compressedResponsesAreDecoded() {
+        step("Получить ответы в gzip и deflate");
+        assertEquals(PAYLOAD, transport.send("GET", "/stub/gzip", Map.of(), null).asString());
+        assertEquals(PAYLOAD, transport.send("GET", "/stub/deflate", Map.of(), null).asString());
+
+        step("Проверить счётчики трафика");
+        for (String path : new String[]{"/stub/gzip", "/stub/deflate"}) {
+            BandwidthStats.Counters counters = BandwidthStats.getInstance().get(BandwidthStats.endpoint("GET", path));
+            assertEquals(1, counters.getResponses());
+            assertEquals(PAYLOAD.length(), counters.getReceivedDecoded());
+            assertTrue(path + " must be smaller on the wire", counters.getReceivedWire() < counters.getReceivedDecoded());
+        }
+    }
+
+    @Test
+    @DisplayName("Пустой ответ с Content-Encoding gzip")
+    @Description("Ответ 204 без тела, но с заголовком gzip, читается как пустой, а не падает на распаковке.")
+    public void emptyEncodedBodyIsIdentity() {
+        step("Получить 204 с Content-Encoding gzip");
+        Response response = transport.send("DELETE", "/stub/empty", Map.of(), null);
+
+        step("Проверить пустой ответ");
+        assertEquals(204, response.statusCode());
+        assertEquals("", response.asString());
+    }
+
+    @Test
+    @DisplayName("Сжатие тела запроса по порогу")
+    @Description("Тело заказа длиннее порога сжимается gzip, короткое тело логина курьера отправляется как есть.")
+    public void requestBodiesAreCompressedAboveThreshold() throws IOException {
+        step("Отправить заказ и логин курьера");
+        transport.send("POST", "/stub/order", Map.of(), OrderGenerator.getOrder());
+        transport.send("POST", "/stub/login", Map.of(), new CourierCredentials("redTractor", "1234"));
+
+        step("Проверить кодирование запросов");
+        assertEquals("gzip", requestEncodings.get("/stub/order"));
+        assertTrue("Order must arrive intact", requestBodies.get("/stub/order").contains("\"firstName\":\"Naruto\""));
+        assertNull("Short bodies must not be compressed", requestEncodings.get("/stub/login"));
+        BandwidthStats.Counters order = BandwidthStats.getInstance().get(BandwidthStats.endpoint("POST", "/stub/order"));
+        assertEquals(requestBodies.get("/stub/order").getBytes(StandardCharsets.UTF_8).length, order.getSentRaw());
+        assertTrue("Order must be smaller on the wire", order.getSentWire() < order.getSentRaw());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        byte[] request = exchange.getRequestBody().readAllBytes();
+        String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        if (encoding != null) {
+            requestEncodings.put(path, encoding);
+            request = new GZIPInputStream(new ByteArrayInputStream(request)).readAllBytes();
+        }
+        requestBodies.put(path, new String(request, StandardCharsets.UTF_8));
+
+        String accepted = String.valueOf(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+        switch (path) {
+            case "/stub/gzip":
+            case "/stub/deflate":
+                boolean gzip = path.endsWith("gzip");
+                assertTrue("Client must accept the encoding", accepted.contains(gzip ? "gzip" : "deflate"));
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                try (OutputStream out = gzip ? new GZIPOutputStream(compressed) : new DeflaterOutputStream(compressed)) {
+                    out.write(PAYLOAD.getBytes(StandardCharsets.UTF_8));
+                }
+                exchange.getResponseHeaders().add("Content-Encoding", gzip ? "gzip" : "deflate");
+                exchange.sendResponseHeaders(200, compressed.size());
+                exchange.getResponseBody().write(compressed.toByteArray());
+                exchange.close();
+                break;
+            case "/stub/empty":
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+                break;
+            default:
+                ApiStub.respond(exchange, 201, "{\"ok\":true}");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import io.restassured.response.Response;
+import model.OrderClient;
+import model.OrderGenerator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static model.StepProvider.step;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LazyResponseStubTest {
+
+    private final OrderClient orderClient = OrderClient.getInstance();
+    private ApiStub api;
+
+    @Before
+    public void setUp() throws IOException {
+        api = new ApiStub(exchange -> {
+            ApiStub.body(exchange);
+            ApiStub.respond(exchange, 201, "{\"track\":123456}");
+        });
+    }
+
+    @After
+    public void tearDown() {
+        if (api != null) {
+            api.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Ответ транспорта java.net.http работает как ответ REST Assured")
+    @Description("Статус, строка статуса, equals/hashCode и then().extract().path(...) над ленивым ответом http2-транспорта.")
+    public void lazyResponseBehavesLikeRestAssuredResponse() {
+        step("Создать заказ через http2-транспорт");
+        Response response = orderClient.create(OrderGenerator.getOrder());
+        Response other = orderClient.create(OrderGenerator.getOrder());
+
+        step("Проверить ответ без материализации");
+        assertTrue("Transport must return a lazy response", response.toString().startsWith("LazyResponse"));
+        assertEquals(201, response.statusCode());
+        assertEquals("HTTP/1.1 201 Created", response.statusLine());
+        assertEquals(response, response);
+        assertNotEquals(response, other);
+        assertEquals(response.hashCode(), response.hashCode());
+
+        step("Проверить ответ через REST Assured");
+        response.then().statusCode(201).statusLine("HTTP/1.1 201 Created");
+        int track = response.then().extract().path("track");
+        assertEquals(123456, track);
+        assertEquals("Materialized response must keep identity equality", response, response);
+    }
+}
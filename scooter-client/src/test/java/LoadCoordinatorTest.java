@@ -0,0 +1,128 @@
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import model.LoadCoordinator;
+import model.ScenarioReport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static model.StepProvider.attach;
+import static model.StepProvider.step;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class LoadCoordinatorTest {
+
+    private static final int WORKERS = 2, USERS = 3, ITERATIONS = 2;
+
+    private final Set<String> logins = ConcurrentHashMap.newKeySet();
+    private HttpServer api;
+    private LoadCoordinator coordinator;
+    private final List<Process> workers = new ArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        api = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        api.createContext("/", exchange -> {
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            String path = exchange.getRequestURI().getPath();
+            int status = 200;
+            if (path.equals("/api/v1/courier") || path.equals("/api/v1/orders")) {
+                status = exchange.getRequestMethod().equals("POST") ? 201 : 200;
+            }
+            if (path.equals("/api/v1/courier") && !logins.add(request.replaceAll(".*\"login\":\"([^\"]*)\".*", "$1"))) {
+                status = 409;
+            }
+            byte[] body = "{\"ok\":true,\"id\":1,\"track\":1}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        api.start();
+        coordinator = new LoadCoordinator(0);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        workers.forEach(Process::destroyForcibly);
+        coordinator.close();
+        api.stop(0);
+    }
+
+    @Test
+    @DisplayName("Распределённый прогон на нескольких процессах")
+    @Description("Координатор раздаёт непересекающиеся диапазоны seed и объединяет гистограммы воркеров.")
+    public void coordinatorMergesWorkerResults() throws IOException {
+        step("Запустить процессы воркеров");
+        for (int i = 0; i < WORKERS; i++) {
+            workers.add(startWorker());
+        }
+
+        step("Выполнить прогон");
+        ScenarioReport report = coordinator.run(WORKERS, USERS, ITERATIONS, 1000);
+        attach("Объединённые метрики", coordinator.getMetrics().report());
+
+        step("Проверить объединённый отчёт");
+        assertEquals("All lifecycle runs must be merged", WORKERS * USERS * ITERATIONS, report.getRuns());
+        assertEquals("Seed ranges must not collide", 0, report.getErrors());
+        assertEquals("Every courier must be created once", WORKERS * USERS * ITERATIONS, logins.size());
+        assertEquals("Courier creations of all workers must be merged", WORKERS * USERS * ITERATIONS,
+                coordinator.getMetrics().get("CourierClient.create").getCount());
+    }
+
+    @Test
+    @DisplayName("Зависший воркер не блокирует координатор")
+    @Description("Если воркер не прислал результат до истечения таймаута, прогон завершается ошибкой с именем воркера.")
+    public void silentWorkerFailsRunWithItsName() throws Exception {
+        try (LoadCoordinator impatient = new LoadCoordinator(0, Duration.ofMillis(500))) {
+            step("Подключить воркер, который не присылает результат");
+            Thread silent = new Thread(() -> {
+                try (Socket socket = new Socket("localhost", impatient.getPort())) {
+                    PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+                    BufferedReader in = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    out.println("{\"type\":\"hello\",\"worker\":\"silent-worker\"}");
+                    in.readLine();
+                    out.println("{\"type\":\"ready\"}");
+                    in.readLine();
+                    Thread.sleep(5000);
+                } catch (IOException | InterruptedException ignored) {
+                }
+            });
+            silent.setDaemon(true);
+            silent.start();
+
+            step("Проверить ошибку прогона");
+            IllegalStateException error = assertThrows(IllegalStateException.class,
+                    () -> impatient.run(1, USERS, ITERATIONS, 1000));
+            assertTrue(error.getMessage(), error.getMessage().contains("silent-worker (timed out)"));
+        }
+    }
+
+    private Process startWorker() throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        return new ProcessBuilder(java, "-cp", classpath,
+                "-Dscooter.baseUrl=http://localhost:" + api.getAddress().getPort(),
+                "model.LoadWorker", "localhost", String.valueOf(coordinator.getPort()))
+                .inheritIO()
+                .start();
+    }
+}
@@ -0,0 +1,84 @@
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import model.MpscRingBuffer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static model.StepProvider.step;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MpscRingBufferTest {
+
+    private static final int PRODUCERS = 4, PER_PRODUCER = 50_000;
+
+    @Test
+    @DisplayName("Параллельная запись и чтение из кольцевого буфера")
+    @Description("Каждое событие нескольких писателей читается ровно один раз и в порядке записи каждого писателя.")
+    public void concurrentProducersLoseNothing() throws Exception {
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        step("Запустить писателей");
+        List<Future<?>> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            long producer = p;
+            producers.add(executor.submit(() -> {
+                start.await();
+                for (long i = 0; i < PER_PRODUCER; i++) {
+                    long[] event = {producer, i};
+                    while (!buffer.offer(event)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        step("Читать буфер до получения всех событий");
+        long[] next = new long[PRODUCERS];
+        long received = 0;
+        while (received < (long) PRODUCERS * PER_PRODUCER) {
+            received += buffer.drain(event -> {
+                assertEquals("Events of one producer must keep their order", next[(int) event[0]], event[1]);
+                next[(int) event[0]]++;
+            }, 256);
+        }
+        for (Future<?> producer : producers) {
+            producer.get();
+        }
+        executor.shutdown();
+
+        step("Проверить что буфер пуст и все события получены");
+        assertEquals(0, buffer.size());
+        for (long count : next) {
+            assertEquals(PER_PRODUCER, count);
+        }
+    }
+
+    @Test
+    @DisplayName("Переполненный буфер отказывает в записи")
+    @Description("Запись в заполненный буфер не блокируется, а возвращает false до освобождения места.")
+    public void fullBufferRejectsOffers() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+
+        step("Заполнить буфер");
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        step("Проверить отказ и запись после чтения");
+        assertFalse("Full buffer must reject", buffer.offer(4));
+        assertEquals(1, buffer.drain(value -> { }, 1));
+        assertTrue("Drained slot must be reusable", buffer.offer(4));
+    }
+}
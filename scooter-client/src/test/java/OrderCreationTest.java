@@ -39,7 +39,7 @@ public class OrderCreationTest {
     @Before
     public void setUp() {
         order = OrderGenerator.getOrder();
-        orderClient = new OrderClient();
+        orderClient = OrderClient.getInstance();
     }
 
     @After
@@ -50,7 +50,7 @@ public class OrderCreationTest {
     @Test
     @Description("Проверка возможности создания заказа с разными значениями поля color.")
     public void ordersCreatesOrder() {
-        order.setColor(color);
+        order = order.withColor(color);
 
         step("Отправить запрос на создание заказа");
         Response response = orderClient.create(order);
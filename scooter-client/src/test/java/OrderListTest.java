@@ -15,17 +15,15 @@ import static org.junit.Assert.*;
 
 public class OrderListTest {
 
+    private final OrderClient orderClient = OrderClient.getInstance();
+    private final CourierClient courierClient = CourierClient.getInstance();
     private Order order;
-    private static Courier courier;
-    private OrderClient orderClient;
-    private static CourierClient courierClient;
+    private Courier courier;
 
     @Before
     public void setUp() {
         order = OrderGenerator.getOrder();
-        orderClient = new OrderClient();
         courier = CourierGenerator.getCourier();
-        courierClient = new CourierClient();
     }
 
     @Test
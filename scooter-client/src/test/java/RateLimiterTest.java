@@ -0,0 +1,88 @@
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import model.RateLimiter;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static model.StepProvider.step;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Ограничение событий в секунду")
+    @Description("В пределах одной секунды пропускается не больше заданного числа событий, новая секунда начинает счёт заново.")
+    public void limitResetsEverySecond() {
+        RateLimiter limiter = new RateLimiter(3);
+        long now = 42 * SECOND;
+
+        step("Исчерпать лимит текущей секунды");
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(now + i));
+        }
+        assertFalse("Fourth event must be dropped", limiter.tryAcquire(now + 3));
+
+        step("Проверить лимит следующей секунды");
+        assertTrue("Next second must start a new window", limiter.tryAcquire(now + SECOND));
+    }
+
+    @Test
+    @DisplayName("Лимит при отрицательном System.nanoTime")
+    @Description("Окно считается и для отрицательных значений времени.")
+    public void negativeTimeIsLimited() {
+        RateLimiter limiter = new RateLimiter(1);
+
+        step("Проверить лимит в отрицательной секунде");
+        assertTrue(limiter.tryAcquire(-5 * SECOND));
+        assertFalse(limiter.tryAcquire(-5 * SECOND + 1));
+    }
+
+    @Test
+    @DisplayName("Параллельные вызовы не превышают лимит")
+    @Description("Одновременные потоки в одной секунде получают ровно заданное число разрешений.")
+    public void concurrentCallersShareLimit() throws Exception {
+        RateLimiter limiter = new RateLimiter(10_000);
+        LongAdder acquired = new LongAdder();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        step("Запросить разрешения из 8 потоков в одной секунде");
+        List<Future<?>> callers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            callers.add(executor.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    if (limiter.tryAcquire(7 * SECOND)) {
+                        acquired.increment();
+                    }
+                }
+            }));
+        }
+        for (Future<?> caller : callers) {
+            caller.get();
+        }
+        executor.shutdown();
+
+        step("Проверить число разрешений");
+        assertEquals(10_000, acquired.sum());
+    }
+
+    @Test
+    @DisplayName("Слишком большой лимит отклоняется")
+    @Description("Лимит от 2^24 переполнил бы счётчик в битах секунды.")
+    public void tooLargeLimitIsRejected() {
+        step("Создать ограничитель с лимитом 2^24");
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(RateLimiter.MAX_LIMIT));
+        assertTrue(new RateLimiter(0).tryAcquire(0));
+    }
+}
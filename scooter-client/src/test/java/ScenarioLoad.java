@@ -0,0 +1,78 @@
+import model.LifecycleScenario;
+import model.ScenarioReport;
+import model.ScenarioRunner;
+import model.SloMonitor;
+import model.VirtualThreads;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Запускается только в профиле virtual-threads: mvn test -Pvirtual-threads.
+ * Каждый сценарий (тестовый класс целиком, включая все наборы параметров) выполняется
+ * заданным числом одновременных пользователей на одних и тех же блокирующих клиентах.
+ * Бюджеты задержек задаются через -Dscenario.slo="OrderClient.create p99 &lt; 300ms over 1000; ..."
+ * и проверяются после каждого уровня нагрузки.
+ * <p>
+ * Одновременно можно запускать только классы, которые не делят тестовые данные: по умолчанию это
+ * OrderCreationTest и сценарий lifecycle ({@link LifecycleScenario}), где каждый прогон получает
+ * собственный seed и своего курьера. CourierCreationTest, CourierAuthorizationTest и OrderListTest
+ * используют одного курьера "redTractor" и при параллельном запуске мешают друг другу (409 вместо 201),
+ * поэтому их имеет смысл указывать только с -Dscenario.concurrency=1.
+ */
+public class ScenarioLoad {
+
+    private static final String CLASSES = System.getProperty("scenario.classes", "OrderCreationTest,lifecycle");
+    private static final String CONCURRENCY = System.getProperty("scenario.concurrency", "10,100,1000");
+    private static final int ITERATIONS = Integer.getInteger("scenario.iterations", 1);
+    private static final String SLO = System.getProperty("scenario.slo", "");
+    private static final String LIFECYCLE = "lifecycle";
+
+    @Test
+    public void scenariosScaleWithConcurrency() throws ClassNotFoundException {
+        if (!VirtualThreads.isSupported()) {
+            System.out.println("Virtual threads need Java 21+, falling back to platform threads");
+        }
+
+        ScenarioRunner runner = new ScenarioRunner();
+        SloMonitor slo = SloMonitor.of(SLO);
+        List<ScenarioReport> reports = new ArrayList<>();
+        AtomicLong seeds = new AtomicLong(System.currentTimeMillis() * 1000);
+        scenarios:
+        for (String className : CLASSES.split(",")) {
+            String name = className.trim();
+            Runnable scenario = scenario(name, seeds);
+            for (String users : CONCURRENCY.split(",")) {
+                reports.add(runner.run(name, Integer.parseInt(users.trim()), ITERATIONS, scenario));
+                if (!slo.isMet()) {
+                    break scenarios;
+                }
+            }
+        }
+
+        System.out.println(ScenarioReport.header());
+        reports.forEach(System.out::println);
+        System.out.print(slo.report());
+        slo.verify();
+    }
+
+    private static Runnable scenario(String name, AtomicLong seeds) throws ClassNotFoundException {
+        if (name.equals(LIFECYCLE)) {
+            LifecycleScenario lifecycle = new LifecycleScenario();
+            return () -> lifecycle.run(seeds.getAndIncrement());
+        }
+        Class<?> testClass = Class.forName(name);
+        return () -> runScenario(testClass);
+    }
+
+    private static void runScenario(Class<?> scenario) {
+        Result result = new JUnitCore().run(scenario);
+        if (!result.wasSuccessful()) {
+            throw new AssertionError(result.getFailures().get(0).getMessage());
+        }
+    }
+}
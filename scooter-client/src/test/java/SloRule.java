@@ -0,0 +1,50 @@
+import model.Metrics;
+import model.SloMonitor;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+/**
+ * Бюджеты задержек для тестового класса. Как @ClassRule проверяет бюджеты после всех тестов класса,
+ * как @Rule дополнительно замеряет каждый тест под именем Класс.метод:
+ * <pre>
+ * &#64;ClassRule public static SloRule slo = new SloRule("OrderClient.create p99 &lt; 300ms over 1000");
+ * &#64;Rule public SloRule timing = slo;
+ * </pre>
+ */
+public class SloRule implements TestRule {
+
+    private final SloMonitor monitor;
+
+    public SloRule(String specs) {
+        this.monitor = SloMonitor.of(specs);
+    }
+
+    @Override
+    public Statement apply(Statement base, Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                if (description.isTest()) {
+                    timed(base, description);
+                } else {
+                    base.evaluate();
+                    monitor.verify();
+                }
+            }
+        };
+    }
+
+    private static void timed(Statement base, Description description) throws Throwable {
+        String method = description.getMethodName().replaceAll("\\[.*", "");
+        String operation = description.getTestClass().getSimpleName() + "." + method;
+        long begin = System.nanoTime();
+        boolean failed = true;
+        try {
+            base.evaluate();
+            failed = false;
+        } finally {
+            Metrics.getInstance().record(operation, System.nanoTime() - begin, failed);
+        }
+    }
+}
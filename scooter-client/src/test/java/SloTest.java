@@ -0,0 +1,103 @@
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import model.Metrics;
+import model.OperationStats;
+import model.Slo;
+import model.SloMonitor;
+import org.junit.Test;
+
+import java.util.List;
+
+import static model.StepProvider.step;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class SloTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    @DisplayName("Бюджет задержки выполнен")
+    @Description("p99 ниже порога при достаточном количестве замеров.")
+    public void latencyBelowLimitIsMet() {
+        Slo slo = Slo.parse("OrderClient.create p99 < 300ms over 1000");
+
+        step("Записать 1000 замеров по 100 мс");
+        OperationStats stats = stats(1000, 100 * MILLIS, 0);
+
+        step("Проверить статус бюджета");
+        assertEquals("SLO must be met", Slo.Status.MET, slo.evaluate(stats));
+    }
+
+    @Test
+    @DisplayName("Бюджет задержки нарушен")
+    @Description("Более 1% замеров выше порога нарушает бюджет p99.")
+    public void slowTailBreaksLatencyBudget() {
+        Slo slo = Slo.parse("OrderClient.create p99 < 300ms over 1000");
+
+        step("Записать 980 быстрых и 20 медленных замеров");
+        OperationStats stats = stats(980, 100 * MILLIS, 0);
+        for (int i = 0; i < 20; i++) {
+            stats.record(500 * MILLIS, false);
+        }
+
+        step("Проверить статус бюджета");
+        assertEquals("SLO must be broken", Slo.Status.BROKEN, slo.evaluate(stats));
+        assertTrue("Description must contain status", slo.describe(stats).endsWith("BROKEN"));
+    }
+
+    @Test
+    @DisplayName("Недостаточно замеров")
+    @Description("Бюджет не оценивается, пока замеров меньше минимума.")
+    public void fewSamplesAreNotJudged() {
+        Slo slo = Slo.parse("OrderClient.create p99 < 300ms over 1000");
+
+        step("Проверить статус бюджета при 10 медленных замерах");
+        assertEquals("SLO must wait for samples", Slo.Status.NOT_ENOUGH_SAMPLES,
+                slo.evaluate(stats(10, 500 * MILLIS, 0)));
+    }
+
+    @Test
+    @DisplayName("Бюджет доли ошибок")
+    @Description("Доля ошибок сравнивается с порогом в процентах.")
+    public void errorRateBudget() {
+        List<Slo> slos = Slo.parseAll("CourierClient.login errors < 0.1%; OrderClient.create p90 < 1s");
+
+        step("Проверить разбор нескольких бюджетов");
+        assertEquals("Must be 2 SLOs", 2, slos.size());
+        assertEquals("CourierClient.login errors < 0.1%", slos.get(0).toString());
+        assertEquals("OrderClient.create p90 < 1000.0 ms", slos.get(1).toString());
+
+        step("Проверить статус бюджета ошибок");
+        assertEquals(Slo.Status.MET, slos.get(0).evaluate(stats(10000, MILLIS, 5)));
+        assertEquals(Slo.Status.BROKEN, slos.get(0).evaluate(stats(10000, MILLIS, 20)));
+    }
+
+    @Test
+    @DisplayName("Бюджет с опечаткой в имени операции не проходит проверку")
+    @Description("Бюджет, так и не получивший замеров к концу прогона, проваливает verify и не создаёт пустую операцию в метриках.")
+    public void unjudgedBudgetFailsVerify() {
+        Metrics metrics = new Metrics();
+        for (int i = 0; i < 100; i++) {
+            metrics.record("OrderClient.create", 100 * MILLIS, false);
+        }
+        SloMonitor monitor = new SloMonitor(metrics, Slo.parseAll("OrderClient.Create p99 < 300ms; OrderClient.create p99 < 300ms"));
+
+        step("Проверить бюджеты по окончании прогона");
+        assertTrue("Unjudged budget must not count as broken mid-run", monitor.isMet());
+        AssertionError error = assertThrows(AssertionError.class, monitor::verify);
+        assertTrue(error.getMessage().contains("OrderClient.Create"));
+
+        step("Проверить что проверка не добавила операций в метрики");
+        assertEquals(1, metrics.getOperations().size());
+    }
+
+    private static OperationStats stats(int count, long nanos, int errors) {
+        OperationStats stats = new OperationStats();
+        for (int i = 0; i < count; i++) {
+            stats.record(nanos, i < errors);
+        }
+        return stats;
+    }
+}
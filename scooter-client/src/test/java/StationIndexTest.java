@@ -0,0 +1,50 @@
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import model.StationIndex;
+import org.junit.Before;
+import org.junit.Test;
+
+import static model.StepProvider.step;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class StationIndexTest {
+
+    private StationIndex<String> index;
+
+    @Before
+    public void setUp() {
+        index = new StationIndex<>();
+        index.add(10, "courier10");
+        index.add(20, "courier20");
+        index.add(40, "courier40");
+    }
+
+    @Test
+    @DisplayName("Ближайшая станция")
+    @Description("Возвращается курьер с ближайшей по номеру станции, в обе стороны.")
+    public void pollNearestReturnsClosestStation() {
+        step("Найти курьера для заказа на станции 17");
+        assertEquals("courier20", index.pollNearest(17));
+
+        step("Найти курьера для заказа на станции 29");
+        assertEquals("courier40", index.pollNearest(29));
+
+        step("Проверить что в индексе остался один курьер");
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("Пропуск пустых станций")
+    @Description("Станции, где не осталось курьеров, пропускаются при поиске.")
+    public void pollNearestSkipsEmptyStations() {
+        index.pollNearest(20);
+
+        step("Найти курьера рядом с опустевшей станцией 20");
+        assertEquals("courier10", index.pollNearest(21));
+        assertEquals("courier40", index.pollNearest(21));
+
+        step("Проверить что пустой индекс возвращает null");
+        assertNull(index.pollNearest(21));
+    }
+}
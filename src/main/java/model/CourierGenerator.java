@@ -1,7 +0,0 @@
-package model;
-
-public class CourierGenerator {
-    public static Courier getCourier() {
-        return new Courier("redTractor", "1234", "Peter");
-    }
-}